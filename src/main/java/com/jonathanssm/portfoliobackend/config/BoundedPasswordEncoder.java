@@ -0,0 +1,33 @@
+package com.jonathanssm.portfoliobackend.config;
+
+import com.jonathanssm.portfoliobackend.service.PasswordHashingExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoder que executa o encoder delegado no PasswordHashingExecutor
+ * <p>
+ * Login (via AuthenticationManager) e cadastro passam a competir por um pool limitado em vez
+ * de ocupar threads de requisição com BCrypt. Sob sobrecarga lança TaskRejectedException (503).
+ */
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashingExecutor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHashingExecutor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
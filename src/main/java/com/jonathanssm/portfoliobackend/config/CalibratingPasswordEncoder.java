@@ -0,0 +1,92 @@
+package com.jonathanssm.portfoliobackend.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoder BCrypt com custo calibrado na inicialização
+ * <p>
+ * Mede o tempo de hash no hardware atual e escolhe o maior custo (entre min e max) que cabe no
+ * orçamento de latência. O custo fica gravado no próprio hash ($2a$NN$), então hashes antigos
+ * continuam válidos; upgradeEncoding sinaliza apenas custos abaixo do calibrado para que o
+ * login regrave a senha via UserDetailsPasswordService. Só sobe: com réplicas calibradas em
+ * custos diferentes, regravar para baixo faria os nós desfazerem o trabalho uns dos outros.
+ */
+@Slf4j
+public class CalibratingPasswordEncoder implements PasswordEncoder {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    @Getter
+    private final int strength;
+    private final BCryptPasswordEncoder delegate;
+
+    public CalibratingPasswordEncoder(long targetMillis, int minStrength, int maxStrength) {
+        this.strength = calibrate(targetMillis, minStrength, maxStrength);
+        this.delegate = new BCryptPasswordEncoder(strength);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int encodedStrength = extractStrength(encodedPassword);
+        return encodedStrength > 0 && encodedStrength < strength;
+    }
+
+    /**
+     * Cada custo a mais dobra o tempo: sobe enquanto o próximo nível ainda cabe no orçamento
+     */
+    private static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        // Aquecimento (JIT) antes das medições
+        measureMillis(minStrength);
+
+        int chosen = minStrength;
+        double elapsedMillis = measureMillis(chosen);
+        while (chosen < maxStrength && elapsedMillis * 2 <= targetMillis) {
+            chosen++;
+            elapsedMillis = measureMillis(chosen);
+        }
+
+        log.info("🔑 BCrypt strength calibrated to {} ({} ms per hash, target {} ms)",
+                chosen, String.format("%.1f", elapsedMillis), targetMillis);
+        return chosen;
+    }
+
+    private static double measureMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+
+    /**
+     * Extrai o custo de um hash no formato $2a$NN$... (0 se não for BCrypt)
+     */
+    private static int extractStrength(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(encodedPassword, 4, 6, 10);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
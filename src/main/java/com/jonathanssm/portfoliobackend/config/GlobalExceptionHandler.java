@@ -1,13 +1,16 @@
 package com.jonathanssm.portfoliobackend.config;
 
 import com.jonathanssm.portfoliobackend.constants.ErrorConstants;
+import com.jonathanssm.portfoliobackend.constants.HttpConstants;
 import com.jonathanssm.portfoliobackend.constants.ValidationConstants;
 import com.jonathanssm.portfoliobackend.dto.ApiResponse;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.ValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -17,6 +20,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -42,6 +46,21 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<ApiResponse> handleEntityNotFound(EntityNotFoundException ex, HttpServletRequest request) {
+        log.warn("Entidade não encontrada: {}", ex.getMessage());
+
+        ApiResponse response = ApiResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error(HttpStatus.NOT_FOUND.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ApiResponse> handleValidationException(ValidationException ex, HttpServletRequest request) {
         log.warn("Erro de validação: {}", ex.getMessage());
@@ -102,6 +121,11 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(org.springframework.security.core.AuthenticationException.class)
     public ResponseEntity<ApiResponse> handleAuthenticationException(org.springframework.security.core.AuthenticationException ex, HttpServletRequest request) {
+        // DaoAuthenticationProvider encapsula falhas da busca do usuário (incluindo o hashing de proteção contra timing)
+        if (ex.getCause() instanceof TaskRejectedException taskRejected) {
+            return handleTaskRejected(taskRejected, request);
+        }
+
         String message = switch (ex.getClass().getSimpleName()) {
             case "BadCredentialsException" -> "Invalid username or password";
             case "AccountExpiredException" -> "Account has expired";
@@ -201,6 +225,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponse> handleMethodArgumentTypeMismatch(
+            MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+        log.warn("Parâmetro inválido: {}", ex.getName());
+
+        ApiResponse response = ApiResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message(ErrorConstants.System.INVALID_PARAMETER)
+                .path(request.getRequestURI())
+                .details(Collections.singletonMap(ex.getName(), String.valueOf(ex.getValue())))
+                .build();
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse> handleGlobalException(Exception ex, HttpServletRequest request) {
         log.error("Erro interno do servidor: {}", ex.getMessage(), ex);
@@ -231,6 +272,23 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ApiResponse> handleTaskRejected(TaskRejectedException ex, HttpServletRequest request) {
+        log.warn("Capacidade esgotada: {}", ex.getMessage());
+
+        ApiResponse response = ApiResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(ErrorConstants.System.SERVICE_OVERLOADED)
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpConstants.Headers.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     @ExceptionHandler(KafkaException.class)
     public ResponseEntity<ApiResponse> handleKafkaException(KafkaException ex, HttpServletRequest request) {
         log.error("Erro Kafka: {}", ex.getMessage(), ex);
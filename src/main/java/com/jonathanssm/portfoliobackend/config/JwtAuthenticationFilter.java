@@ -3,6 +3,7 @@ package com.jonathanssm.portfoliobackend.config;
 import com.jonathanssm.portfoliobackend.constants.SecurityConstants;
 import com.jonathanssm.portfoliobackend.util.JwtUtil;
 import com.jonathanssm.portfoliobackend.util.RequestHelper;
+import com.jonathanssm.portfoliobackend.util.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -19,6 +21,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -42,28 +46,54 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = RequestHelper.extractBearerToken(authHeader);
-        try {
-            username = jwtUtil.extractUsername(jwt);
-        } catch (Exception e) {
-            log.warn("JWT token is invalid: {}", e.getMessage());
+
+        // Assinatura, expiração e revogação verificadas em uma única passada
+        Optional<VerifiedToken> verifiedToken = jwtUtil.verify(jwt);
+        if (verifiedToken.isEmpty()) {
+            log.warn("JWT token is invalid or expired");
             filterChain.doFilter(request, response);
             return;
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        username = verifiedToken.get().subject();
 
-            if (Boolean.TRUE.equals(jwtUtil.validateToken(jwt))) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-                log.debug("User {} authenticated successfully", username);
-            }
+        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UsernamePasswordAuthenticationToken authToken = isStatelessAuthorizable(verifiedToken.get())
+                    ? createStatelessAuthentication(verifiedToken.get())
+                    : createAuthentication(username);
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            log.debug("User {} authenticated successfully", username);
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Tokens com roles embutidas dispensam a carga do usuário quando o modo stateless está ativo
+     */
+    private boolean isStatelessAuthorizable(VerifiedToken token) {
+        return jwtUtil.isStatelessAuthorization() && !token.isRefreshToken() && token.hasAuthorities();
+    }
+
+    /**
+     * Monta a autenticação diretamente das claims verificadas, sem acesso ao banco
+     */
+    private UsernamePasswordAuthenticationToken createStatelessAuthentication(VerifiedToken token) {
+        List<SimpleGrantedAuthority> authorities = token.authorities().stream()
+                .map(role -> new SimpleGrantedAuthority(SecurityConstants.Authentication.ROLE_PREFIX + role))
+                .toList();
+        return new UsernamePasswordAuthenticationToken(token.subject(), null, authorities);
+    }
+
+    /**
+     * Monta a autenticação a partir do usuário carregado do banco (perfis e roles atuais)
+     */
+    private UsernamePasswordAuthenticationToken createAuthentication(String username) {
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        return new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+    }
 }
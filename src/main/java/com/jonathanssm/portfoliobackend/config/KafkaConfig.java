@@ -2,6 +2,7 @@ package com.jonathanssm.portfoliobackend.config;
 
 import com.jonathanssm.portfoliobackend.constants.KafkaConstants;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
@@ -22,6 +23,7 @@ public class KafkaConfig {
         return TopicBuilder.name(KafkaConstants.AUTH_TOPIC)
                 .partitions(KafkaConstants.TOPIC_PARTITIONS)
                 .replicas(KafkaConstants.TOPIC_REPLICAS)
+                .config(TopicConfig.RETENTION_MS_CONFIG, String.valueOf(KafkaConstants.AUTH_TOPIC_RETENTION_MS))
                 .build();
     }
 
@@ -0,0 +1,170 @@
+package com.jonathanssm.portfoliobackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jonathanssm.portfoliobackend.constants.HttpConstants;
+import com.jonathanssm.portfoliobackend.dto.ApiResponse;
+import com.jonathanssm.portfoliobackend.service.MetricsService;
+import com.jonathanssm.portfoliobackend.service.RateLimitingService;
+import com.jonathanssm.portfoliobackend.util.HashUtils;
+import com.jonathanssm.portfoliobackend.util.RequestHelper;
+import com.jonathanssm.portfoliobackend.util.TokenBucketTable;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro de throttling por cliente (IP) e rota, executado antes da autenticação JWT
+ * <p>
+ * Cada rota tem sua própria TokenBucketTable (lock-free, memória fixa). Requisições acima do
+ * limite recebem 429 com Retry-After antes de ocupar threads de negócio ou conexões do pool.
+ * IPs bloqueados pela detecção de força bruta são rejeitados pelo tempo restante do bloqueio.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestThrottlingFilter extends OncePerRequestFilter {
+
+    /**
+     * Rotas com limites próprios; as demais compartilham o limite DEFAULT
+     */
+    enum ThrottledRoute {
+        LOGIN("/auth/login"),
+        REFRESH("/auth/refresh"),
+        REGISTER("/auth/register"),
+        EXPERIENCES("/experiences"),
+        DEFAULT("");
+
+        private final String pathPrefix;
+
+        ThrottledRoute(String pathPrefix) {
+            this.pathPrefix = pathPrefix;
+        }
+
+        static ThrottledRoute resolve(String path) {
+            for (ThrottledRoute route : values()) {
+                if (route != DEFAULT && path.startsWith(route.pathPrefix)) {
+                    return route;
+                }
+            }
+            return DEFAULT;
+        }
+    }
+
+    private static final String BLOCKED_ROUTE = "BLOCKED";
+
+    private final MetricsService metricsService;
+    private final RateLimitingService rateLimitingService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${rate-limit.requests.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.requests.capacity:65536}")
+    private int capacity;
+
+    @Value("${rate-limit.requests.default.burst:120}")
+    private int defaultBurst;
+
+    @Value("${rate-limit.requests.default.refill-per-second:20}")
+    private double defaultRefillPerSecond;
+
+    @Value("${rate-limit.requests.login.burst:10}")
+    private int loginBurst;
+
+    @Value("${rate-limit.requests.login.refill-per-second:0.5}")
+    private double loginRefillPerSecond;
+
+    @Value("${rate-limit.requests.refresh.burst:10}")
+    private int refreshBurst;
+
+    @Value("${rate-limit.requests.refresh.refill-per-second:0.5}")
+    private double refreshRefillPerSecond;
+
+    @Value("${rate-limit.requests.register.burst:5}")
+    private int registerBurst;
+
+    @Value("${rate-limit.requests.register.refill-per-second:0.05}")
+    private double registerRefillPerSecond;
+
+    @Value("${rate-limit.requests.experiences.burst:60}")
+    private int experiencesBurst;
+
+    @Value("${rate-limit.requests.experiences.refill-per-second:10}")
+    private double experiencesRefillPerSecond;
+
+    private final Map<ThrottledRoute, TokenBucketTable> buckets = new EnumMap<>(ThrottledRoute.class);
+
+    @PostConstruct
+    void init() {
+        buckets.put(ThrottledRoute.LOGIN, new TokenBucketTable(capacity, loginBurst, loginRefillPerSecond));
+        buckets.put(ThrottledRoute.REFRESH, new TokenBucketTable(capacity, refreshBurst, refreshRefillPerSecond));
+        buckets.put(ThrottledRoute.REGISTER, new TokenBucketTable(capacity, registerBurst, registerRefillPerSecond));
+        buckets.put(ThrottledRoute.EXPERIENCES, new TokenBucketTable(capacity, experiencesBurst, experiencesRefillPerSecond));
+        buckets.put(ThrottledRoute.DEFAULT, new TokenBucketTable(capacity, defaultBurst, defaultRefillPerSecond));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        ThrottledRoute route = ThrottledRoute.resolve(request.getRequestURI().substring(request.getContextPath().length()));
+        String ipAddress = RequestHelper.extractClientIpAddress(request);
+
+        // IPs bloqueados pela detecção de força bruta são rejeitados antes de qualquer processamento
+        long blockedMillis = rateLimitingService.getBlockRemainingMillis(RateLimitingService.KeyType.IP, ipAddress);
+        if (blockedMillis > 0) {
+            metricsService.recordThrottledRequest(BLOCKED_ROUTE);
+            log.warn("🛑 Request from blocked IP rejected - Route: {}, IP: {}", route, ipAddress);
+            writeTooManyRequests(request, response, TimeUnit.MILLISECONDS.toNanos(blockedMillis));
+            return;
+        }
+
+        long waitNanos = buckets.get(route).tryAcquire(HashUtils.hash64(ipAddress));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        metricsService.recordThrottledRequest(route.name());
+        log.warn("🚦 Request throttled - Route: {}, IP: {}", route, ipAddress);
+        writeTooManyRequests(request, response, waitNanos);
+    }
+
+    private void writeTooManyRequests(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        // Retry-After em segundos inteiros, arredondado para cima
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+
+        ApiResponse body = ApiResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message("Too many requests. Try again in " + retryAfterSeconds + " seconds")
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpConstants.Headers.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(HttpConstants.Headers.CONTENT_TYPE_JSON);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
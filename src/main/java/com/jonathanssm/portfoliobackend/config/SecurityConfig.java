@@ -1,8 +1,10 @@
 package com.jonathanssm.portfoliobackend.config;
 
+import com.jonathanssm.portfoliobackend.service.PasswordHashingExecutor;
 import com.jonathanssm.portfoliobackend.service.UserAuthenticationService;
 import com.jonathanssm.portfoliobackend.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,7 +15,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -36,10 +37,15 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserAuthenticationService userAuthenticationService;
+    private final RequestThrottlingFilter requestThrottlingFilter;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password-hashing.target-millis:250}") long targetMillis,
+                                           @Value("${password-hashing.min-strength:10}") int minStrength,
+                                           @Value("${password-hashing.max-strength:14}") int maxStrength) {
+        // BCrypt com custo calibrado para o hardware, executado em pool dedicado e limitado
+        return new BoundedPasswordEncoder(new CalibratingPasswordEncoder(targetMillis, minStrength, maxStrength), passwordHashingExecutor);
     }
 
     @Bean
@@ -91,12 +97,16 @@ public class SecurityConfig {
 
                         // Experiências - visualização pública, modificação apenas para admin
                         .requestMatchers("/experiences").permitAll() // GET público
+                        // Exportação segura conexão e cursor pelo tempo do download: apenas admin
+                        .requestMatchers("/experiences/export").hasRole("ADMIN")
                         .requestMatchers("/experiences/{id}").permitAll() // GET por ID público
 
                         // Todos os outros endpoints requerem autenticação
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+                // Throttling antes da autenticação: requisições excedentes não chegam a verificar JWT
+                .addFilterBefore(requestThrottlingFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
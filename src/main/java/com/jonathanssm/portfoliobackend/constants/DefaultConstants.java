@@ -27,6 +27,33 @@ public final class DefaultConstants {
         public static final String NULL = "null";
     }
     
+    // ==================== PAGINATION ====================
+
+    public static final class Pagination {
+
+        private Pagination() {
+            throw new UnsupportedOperationException("Utility class");
+        }
+
+        public static final int DEFAULT_PAGE_SIZE = 10;
+        public static final int MAX_PAGE_SIZE = 100;
+        public static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    }
+
+    // ==================== PERSISTENCE ====================
+
+    public static final class Persistence {
+
+        private Persistence() {
+            throw new UnsupportedOperationException("Utility class");
+        }
+
+        // Ids reservados por chamada à sequence (pooled-lo); deve ser igual ao INCREMENT BY das sequences
+        public static final int ID_ALLOCATION_SIZE = 50;
+        // Ids por exclusão em lote (query string: cabe no limite de cabeçalho do Tomcat)
+        public static final int MAX_BULK_DELETE_IDS = 500;
+    }
+
     // ==================== ENTITY NAMES ====================
     
     public static final class EntityNames {
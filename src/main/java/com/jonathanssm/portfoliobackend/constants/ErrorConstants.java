@@ -26,7 +26,9 @@ public final class ErrorConstants {
         public static final String KAFKA_ERROR = "Erro ao processar evento Kafka";
         public static final String KAFKA_LISTENER_ERROR = "Erro no processamento de mensagem Kafka";
         public static final String INVALID_CREDENTIALS = "Credenciais inválidas";
+        public static final String SERVICE_OVERLOADED = "Serviço temporariamente sobrecarregado, tente novamente";
         public static final String INVALID_JSON = "Body da requisição está vazio ou JSON inválido";
+        public static final String INVALID_PARAMETER = "Parâmetro da requisição em formato inválido";
         public static final String ENDPOINT_NOT_FOUND = "Endpoint não encontrado";
         public static final String ELEMENT_NOT_FOUND = "Elemento não encontrado";
         public static final String VALIDATION_ERROR = "Dados de entrada inválidos";
@@ -18,9 +18,16 @@ public final class HttpConstants {
         }
         
         public static final String CONTENT_TYPE_JSON = "application/json";
+        public static final String CONTENT_TYPE_MERGE_PATCH_JSON = "application/merge-patch+json";
         public static final String AUTHORIZATION = "Authorization";
         public static final String USER_AGENT = "User-Agent";
         public static final String X_FORWARDED_FOR = "X-Forwarded-For";
         public static final String X_REAL_IP = "X-Real-IP";
+        public static final String RETRY_AFTER = "Retry-After";
+        public static final String ACCEPT_ENCODING = "Accept-Encoding";
+        public static final String CONTENT_ENCODING = "Content-Encoding";
+        public static final String VARY = "Vary";
+        public static final String CACHE_CONTROL = "Cache-Control";
+        public static final String GZIP = "gzip";
     }
 }
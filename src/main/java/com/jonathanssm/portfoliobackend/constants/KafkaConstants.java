@@ -20,12 +20,29 @@ public final class KafkaConstants {
 
     public static final int TOPIC_PARTITIONS = 3;
     public static final short TOPIC_REPLICAS = 1;
+    // Faixa "0-N" de todas as partições, para listeners com atribuição manual (resolvida via SpEL)
+    public static final String ALL_PARTITIONS =
+            "0-#{T(com.jonathanssm.portfoliobackend.constants.KafkaConstants).TOPIC_PARTITIONS - 1}";
+    // Retenção do tópico de auth cobre o TTL do refresh token (7 dias): replay de revogações no boot.
+    // Aplicada também a tópicos já existentes (spring.kafka.admin.modify-topic-configs)
+    public static final long AUTH_TOPIC_RETENTION_MS = 604_800_000L;
 
     // ==================== CONSUMER GROUPS ====================
 
     public static final String AUTH_SECURITY_HANDLER = "auth-security-handler";
     public static final String USER_ROUTER = "user-router";
     public static final String EXPERIENCE_ROUTER = "experience-router";
+    // Sem commit de offset: cada réplica lê todas as partições do tópico de auth desde o início
+    public static final String AUTH_REVOCATION_BROADCAST = "auth-revocation-broadcast";
+    // Idem para o tópico de usuários: atualiza o cache de versão de tokens em todas as réplicas
+    public static final String USER_TOKEN_VERSION_BROADCAST = "user-token-version-broadcast";
+    // Tópico de experiências em todas as réplicas, a partir do fim: mantém snapshot e índices locais atualizados
+    public static final String EXPERIENCE_CACHE_BROADCAST = "experience-cache-broadcast";
+
+    // ==================== HEADERS ====================
+
+    // Instância que publicou a mensagem (consumers em broadcast ignoram as próprias)
+    public static final String ORIGIN_HEADER = "portfolio-origin";
 
     // ==================== EVENT KEYS ====================
 
@@ -41,6 +58,7 @@ public final class KafkaConstants {
         public static final String AUTH_LOGOUT = "auth.logout";
         public static final String AUTH_TOKEN_REFRESH = "auth.token.refresh";
         public static final String AUTH_TOKEN_INVALID = "auth.token.invalid";
+        public static final String AUTH_CLIENT_BLOCKED = "auth.client.blocked";
 
         // User events
         public static final String USER_CREATED = "user.created";
@@ -54,7 +72,10 @@ public final class KafkaConstants {
         public static final String EXPERIENCE_CREATED = "experience.created";
         public static final String EXPERIENCE_UPDATED = "experience.updated";
         public static final String EXPERIENCE_DELETED = "experience.deleted";
-        public static final String EXPERIENCE_FETCHED = "experience.fetched";
+        public static final String EXPERIENCE_IMPORTED = "experience.imported";
+        public static final String EXPERIENCE_BULK_DELETED = "experience.bulk.deleted";
+        public static final String EXPERIENCE_FETCHED = "experience.fetched"; // Legado: substituído por EXPERIENCE_READS
+        public static final String EXPERIENCE_READS = "experience.reads";
 
         // Admin events
         public static final String ADMIN_USER_CREATED = "admin.user.created";
@@ -68,6 +89,7 @@ public final class KafkaConstants {
             throw new UnsupportedOperationException("Utility class");
         }
 
+        public static final String ID = "id";
         public static final String USER_ID = "userId";
         public static final String USERNAME = "username";
         public static final String EMAIL = "email";
@@ -84,5 +106,20 @@ public final class KafkaConstants {
         public static final String ADMIN_USERNAME = "adminUsername";
         public static final String ADMIN_EMAIL = "adminEmail";
         public static final String ATTEMPTED_USERNAME = "attemptedUsername";
+        public static final String TOKEN_ID = "tokenId";
+        public static final String EXPIRES_AT = "expiresAt";
+        public static final String TOKEN_VERSION = "tokenVersion";
+        public static final String KEY_TYPE = "keyType";
+        public static final String BLOCKED_VALUE = "blockedValue";
+        public static final String BLOCKED_UNTIL = "blockedUntil";
+        public static final String NODE_ID = "nodeId";
+        public static final String INTERVAL_START = "intervalStart";
+        public static final String INTERVAL_END = "intervalEnd";
+        public static final String ENDPOINTS = "endpoints";
+        public static final String ID_HISTOGRAM = "idHistogram";
+        public static final String UNTRACKED_ID_READS = "untrackedIdReads";
+        public static final String IMPORTED_COUNT = "importedCount";
+        public static final String EXPERIENCE_IDS = "experienceIds";
+        public static final String DELETED_COUNT = "deletedCount";
     }
 }
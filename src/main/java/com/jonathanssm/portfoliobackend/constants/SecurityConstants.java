@@ -20,6 +20,7 @@ public final class SecurityConstants {
         public static final String BEARER_PREFIX = "Bearer ";
         public static final String AUTHORIZATION_HEADER = "Authorization";
         public static final String TOKEN_TYPE = "Bearer";
+        public static final String ROLE_PREFIX = "ROLE_";
         public static final Long TOKEN_EXPIRATION_HOURS = 24L;
         public static final Long TOKEN_EXPIRATION_SECONDS = 86400L; // 24 horas
     }
@@ -34,5 +35,8 @@ public final class SecurityConstants {
         
         public static final String TYPE = "type";
         public static final String REFRESH = "refresh";
+        public static final String ROLES = "roles";
+        public static final String USER_ID = "uid";
+        public static final String VERSION = "ver";
     }
 }
@@ -1,12 +1,15 @@
 package com.jonathanssm.portfoliobackend.controller;
 
 import com.jonathanssm.portfoliobackend.service.AdminManagementService;
+import com.jonathanssm.portfoliobackend.service.UserManagementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminController {
 
     private final AdminManagementService adminManagementService;
+    private final UserManagementService userManagementService;
 
     @Operation(
             summary = "Criar usuário admin",
@@ -31,4 +35,15 @@ public class AdminController {
         
         return ResponseEntity.ok("Usuário admin criado com sucesso! Username: admin, Password: admin123");
     }
+
+    @Operation(
+            summary = "Revogar todas as sessões de um usuário",
+            description = "Invalida todos os tokens (access e refresh) já emitidos para o usuário"
+    )
+    @PostMapping("/users/{id}/revoke-sessions")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> revokeUserSessions(@PathVariable Long id) {
+        userManagementService.revokeAllSessions(id);
+        return ResponseEntity.noContent().build();
+    }
 }
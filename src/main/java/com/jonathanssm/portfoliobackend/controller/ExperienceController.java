@@ -1,9 +1,18 @@
 package com.jonathanssm.portfoliobackend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jonathanssm.portfoliobackend.constants.DefaultConstants;
 import com.jonathanssm.portfoliobackend.constants.HttpConstants;
+import com.jonathanssm.portfoliobackend.dto.CursorPage;
+import com.jonathanssm.portfoliobackend.dto.ExperienceBulkDeleteResponse;
+import com.jonathanssm.portfoliobackend.dto.ExperienceFilter;
+import com.jonathanssm.portfoliobackend.dto.ExperienceImportResponse;
 import com.jonathanssm.portfoliobackend.dto.ExperienceRequest;
 import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.service.ExperienceImportService;
+import com.jonathanssm.portfoliobackend.service.ExperienceSearchService;
 import com.jonathanssm.portfoliobackend.service.ExperienceService;
+import com.jonathanssm.portfoliobackend.service.ExperienceSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,16 +20,28 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Set;
 
 @Validated
 @RestController
@@ -30,6 +51,14 @@ import java.util.List;
 public class ExperienceController {
 
     private final ExperienceService experienceService;
+    private final ExperienceSearchService experienceSearchService;
+    private final ExperienceImportService experienceImportService;
+
+    @Value("${http-cache.experiences.list:public, max-age=60, stale-while-revalidate=300}")
+    private String listCacheControl;
+
+    @Value("${http-cache.experiences.by-id:public, max-age=300, stale-while-revalidate=600}")
+    private String byIdCacheControl;
 
     @Operation(
             summary = "Criar nova experiência",
@@ -58,6 +87,34 @@ public class ExperienceController {
                 .body(experienceService.createExperience(request));
     }
 
+    @Operation(
+            summary = "Importar experiências em lote",
+            description = "Cria várias experiências em uma única transação a partir de um array JSON ou NDJSON "
+                    + "(um objeto por linha); qualquer item inválido cancela a importação inteira"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Experiências importadas com sucesso",
+                    content = @Content(
+                            mediaType = HttpConstants.Headers.CONTENT_TYPE_JSON,
+                            schema = @Schema(implementation = ExperienceImportResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Corpo inválido, itens inválidos ou limite de itens excedido",
+                    content = @Content
+            )
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ExperienceImportResponse> importExperiences(HttpServletRequest request) throws IOException {
+        // Corpo lido em streaming pelo service: nada de List<ExperienceRequest> inteira em memória
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(experienceImportService.importExperiences(request.getInputStream()));
+    }
+
     @Operation(
             summary = "Listar todas as experiências",
             description = "Retorna uma lista com todas as experiências profissionais cadastradas"
@@ -73,13 +130,15 @@ public class ExperienceController {
             )
     })
     @GetMapping
-    public ResponseEntity<List<ExperienceResponse>> getAllExperiences() {
-        return ResponseEntity.ok(experienceService.getAllExperiences());
+    public ResponseEntity<byte[]> getAllExperiences(
+            @RequestHeader(value = HttpConstants.Headers.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return toSerializedResponse(experienceService.getAllExperiences(), acceptEncoding, listCacheControl);
     }
 
     @Operation(
             summary = "Listar experiências com paginação",
-            description = "Retorna experiências paginadas para melhor performance"
+            description = "Retorna experiências paginadas por cursor (mais recentes primeiro); "
+                    + "use o nextCursor da resposta para buscar a próxima página"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -87,15 +146,112 @@ public class ExperienceController {
                     description = "Página de experiências retornada com sucesso",
                     content = @Content(
                             mediaType = HttpConstants.Headers.CONTENT_TYPE_JSON,
-                            schema = @Schema(implementation = Page.class)
+                            schema = @Schema(implementation = CursorPage.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cursor ou tamanho de página inválido",
+                    content = @Content
             )
     })
     @GetMapping("/paginated")
-    public ResponseEntity<Page<ExperienceResponse>> getAllExperiencesPaginated(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(experienceService.getAllExperiences(page, size));
+    public ResponseEntity<CursorPage<ExperienceResponse>> getAllExperiencesPaginated(
+            @Parameter(description = "Cursor opaco retornado pela página anterior")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DefaultConstants.Pagination.DEFAULT_PAGE_SIZE)
+            @Min(1) @Max(DefaultConstants.Pagination.MAX_PAGE_SIZE) int size,
+            @Parameter(description = "Incluir o total de experiências (consulta adicional)")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(experienceService.getExperiencesPage(cursor, size, includeTotal));
+    }
+
+    @Operation(
+            summary = "Buscar experiências por palavra-chave",
+            description = "Busca em título, empresa, projeto, descrição, responsabilidades e tecnologias; "
+                    + "resultados ordenados por relevância e paginados por cursor"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de resultados retornada com sucesso",
+                    content = @Content(
+                            mediaType = HttpConstants.Headers.CONTENT_TYPE_JSON,
+                            schema = @Schema(implementation = CursorPage.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Termo de busca, cursor ou tamanho de página inválido",
+                    content = @Content
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<ExperienceResponse>> searchExperiences(
+            @Parameter(description = "Termos de busca")
+            @RequestParam("q") @NotBlank @Size(max = DefaultConstants.Pagination.MAX_SEARCH_QUERY_LENGTH) String query,
+            @Parameter(description = "Cursor opaco retornado pela página anterior")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DefaultConstants.Pagination.DEFAULT_PAGE_SIZE)
+            @Min(1) @Max(DefaultConstants.Pagination.MAX_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(experienceSearchService.search(query, cursor, size));
+    }
+
+    @Operation(
+            summary = "Filtrar experiências",
+            description = "Filtra por tecnologias (todas exigidas), tipos de tecnologia, experiência atual e "
+                    + "faixa de startDate, via índice em memória; resultados mais recentes primeiro"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Experiências filtradas retornadas com sucesso",
+                    content = @Content(
+                            mediaType = HttpConstants.Headers.CONTENT_TYPE_JSON,
+                            schema = @Schema(implementation = ExperienceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Filtro inválido",
+                    content = @Content
+            )
+    })
+    @GetMapping("/filter")
+    public ResponseEntity<byte[]> filterExperiences(
+            @Parameter(description = "Ids de tecnologias; a experiência deve usar todas")
+            @RequestParam(required = false) Set<Long> technologyId,
+            @Parameter(description = "Tipos de tecnologia; a experiência deve ter ao menos uma de cada tipo")
+            @RequestParam(required = false) Set<String> technologyType,
+            @RequestParam(required = false) Boolean current,
+            @Parameter(description = "startDate mínimo (inclusivo)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startFrom,
+            @Parameter(description = "startDate máximo (inclusivo)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startTo) {
+        ExperienceFilter filter = new ExperienceFilter(technologyId, technologyType, current, startFrom, startTo);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(experienceService.filterExperiences(filter));
+    }
+
+    @Operation(
+            summary = "Exportar experiências",
+            description = "Exporta todas as experiências em NDJSON (um objeto JSON por linha), em streaming"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Exportação iniciada com sucesso",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)
+            )
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportExperiences() {
+        StreamingResponseBody body = experienceService::exportExperiences;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @Operation(
@@ -118,10 +274,11 @@ public class ExperienceController {
             )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ExperienceResponse> getExperienceById(
+    public ResponseEntity<byte[]> getExperienceById(
             @Parameter(description = "ID da experiência", required = true)
-            @PathVariable Long id) {
-        return ResponseEntity.ok(experienceService.getExperienceById(id));
+            @PathVariable Long id,
+            @RequestHeader(value = HttpConstants.Headers.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return toSerializedResponse(experienceService.getExperienceById(id), acceptEncoding, byIdCacheControl);
     }
 
     @Operation(
@@ -157,6 +314,40 @@ public class ExperienceController {
         return ResponseEntity.ok(experienceService.updateExperience(id, request));
     }
 
+    @Operation(
+            summary = "Atualizar experiência parcialmente",
+            description = "Atualiza apenas os campos informados (JSON Merge Patch): campos ausentes são mantidos "
+                    + "e null explícito limpa o campo (technologyIds: null remove todas as tecnologias)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Experiência atualizada com sucesso",
+                    content = @Content(
+                            mediaType = HttpConstants.Headers.CONTENT_TYPE_JSON,
+                            schema = @Schema(implementation = ExperienceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Dados inválidos fornecidos",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Experiência não encontrada",
+                    content = @Content
+            )
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PatchMapping(value = "/{id}", consumes = {HttpConstants.Headers.CONTENT_TYPE_MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ExperienceResponse> patchExperience(
+            @Parameter(description = "ID da experiência", required = true)
+            @PathVariable Long id,
+            @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(experienceService.patchExperience(id, patch));
+    }
+
     @Operation(
             summary = "Excluir experiência",
             description = "Remove uma experiência do portfolio baseada no ID fornecido"
@@ -181,4 +372,60 @@ public class ExperienceController {
         experienceService.deleteExperience(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+            summary = "Excluir experiências em lote",
+            description = "Remove as experiências dos ids informados em uma única transação; "
+                    + "ids inexistentes são retornados em notFoundIds"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Exclusão concluída",
+                    content = @Content(
+                            mediaType = HttpConstants.Headers.CONTENT_TYPE_JSON,
+                            schema = @Schema(implementation = ExperienceBulkDeleteResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Nenhum id ou ids demais",
+                    content = @Content
+            )
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping
+    public ResponseEntity<ExperienceBulkDeleteResponse> deleteExperiences(
+            @Parameter(description = "Ids das experiências a excluir")
+            @RequestParam("id") @NotEmpty @Size(max = DefaultConstants.Persistence.MAX_BULK_DELETE_IDS) Set<Long> ids) {
+        return ResponseEntity.ok(experienceService.deleteExperiences(ids));
+    }
+
+    /**
+     * Corpo pré-serializado do snapshot: gzip quando o cliente aceita, JSON puro caso contrário
+     * <p>
+     * Com ETag e Last-Modified presentes, o Spring responde 304 sozinho quando If-None-Match
+     * (ou If-Modified-Since, na ausência do primeiro) indica que o cliente já tem a versão atual.
+     */
+    private ResponseEntity<byte[]> toSerializedResponse(ExperienceSnapshotService.SerializedBody body,
+                                                        String acceptEncoding, String cacheControl) {
+        boolean gzipped = acceptEncoding != null && acceptEncoding.contains(HttpConstants.Headers.GZIP);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpConstants.Headers.VARY, HttpConstants.Headers.ACCEPT_ENCODING)
+                .header(HttpConstants.Headers.CACHE_CONTROL, cacheControl)
+                .eTag(body.etag(gzipped));
+
+        // EPOCH = nenhuma data conhecida (base vazia): apenas o ETag valida
+        if (body.lastModified().isAfter(Instant.EPOCH)) {
+            response.lastModified(body.lastModified());
+        }
+
+        if (gzipped) {
+            return response.header(HttpConstants.Headers.CONTENT_ENCODING, HttpConstants.Headers.GZIP)
+                    .body(body.gzip());
+        }
+        return response.body(body.json());
+    }
 }
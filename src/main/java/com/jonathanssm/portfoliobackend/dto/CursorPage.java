@@ -0,0 +1,22 @@
+package com.jonathanssm.portfoliobackend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Página de resultados com paginação por cursor (keyset)
+ *
+ * @param content       Itens da página
+ * @param nextCursor    Token opaco para a próxima página (null na última)
+ * @param hasNext       Indica se existe próxima página
+ * @param totalElements Total de registros, apenas quando solicitado
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {
+}
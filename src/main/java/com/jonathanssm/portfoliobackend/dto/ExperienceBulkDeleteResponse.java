@@ -0,0 +1,9 @@
+package com.jonathanssm.portfoliobackend.dto;
+
+import java.util.List;
+
+/**
+ * Resultado de uma exclusão em lote: quantidade removida e ids que não existiam
+ */
+public record ExperienceBulkDeleteResponse(int deleted, List<Long> notFoundIds) {
+}
@@ -0,0 +1,22 @@
+package com.jonathanssm.portfoliobackend.dto;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Critérios de filtro de experiências; critérios nulos ou vazios não restringem o resultado
+ *
+ * @param technologyIds   Experiências que usam todas estas tecnologias
+ * @param technologyTypes Experiências com ao menos uma tecnologia de cada um destes tipos
+ * @param current         Experiências atuais (true) ou encerradas (false)
+ * @param startFrom       startDate mínimo (inclusivo)
+ * @param startTo         startDate máximo (inclusivo)
+ */
+public record ExperienceFilter(
+        Set<Long> technologyIds,
+        Set<String> technologyTypes,
+        Boolean current,
+        LocalDate startFrom,
+        LocalDate startTo
+) {
+}
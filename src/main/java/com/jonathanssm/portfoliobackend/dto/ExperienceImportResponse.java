@@ -0,0 +1,9 @@
+package com.jonathanssm.portfoliobackend.dto;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação em lote: quantidade e ids das experiências criadas, na ordem de entrada
+ */
+public record ExperienceImportResponse(int imported, List<Long> ids) {
+}
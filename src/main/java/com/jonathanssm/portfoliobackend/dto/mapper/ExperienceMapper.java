@@ -4,13 +4,16 @@ import com.jonathanssm.portfoliobackend.dto.ExperienceRequest;
 import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
 import com.jonathanssm.portfoliobackend.model.Experience;
 import com.jonathanssm.portfoliobackend.model.Technology;
-import com.jonathanssm.portfoliobackend.model.TechnologyType;
+import com.jonathanssm.portfoliobackend.service.TechnologyCatalog;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
 import java.util.Collections;
-import java.util.Optional;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -24,22 +27,33 @@ public interface ExperienceMapper {
     Experience toEntity(ExperienceRequest request);
 
     @Mapping(target = "technologies", source = "technologies", qualifiedByName = "mapTechnologies")
-    ExperienceResponse toResponse(Experience experience);
+    ExperienceResponse toResponse(Experience experience, @Context TechnologyCatalog technologyCatalog);
 
+    /**
+     * Estado atual como requisição completa: base do PATCH (merge patch)
+     */
+    @Mapping(target = "technologyIds", source = "technologies", qualifiedByName = "mapTechnologyIds")
+    ExperienceRequest toRequest(Experience experience);
+
+    /**
+     * Dados das tecnologias vêm do catálogo: apenas o id é lido, então referências (proxies)
+     * não são inicializadas
+     */
     @Named("mapTechnologies")
-    default Set<ExperienceResponse.TechnologyResponse> mapTechnologies(Set<Technology> technologies) {
-        return Optional.ofNullable(technologies)
-                .orElse(Collections.emptySet())
-                .stream()
-                .map(tech -> new ExperienceResponse.TechnologyResponse(
-                        tech.getId(),
-                        tech.getName(),
-                        tech.getDescription(),
-                        Optional.ofNullable(tech.getType())
-                                .map(TechnologyType::getName)
-                                .orElse(null),
-                        tech.getVersion()
-                ))
-                .collect(Collectors.toSet());
+    default Set<ExperienceResponse.TechnologyResponse> mapTechnologies(Set<Technology> technologies,
+                                                                       @Context TechnologyCatalog technologyCatalog) {
+        if (technologies == null || technologies.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Long> ids = technologies.stream().map(Technology::getId).toList();
+        return new LinkedHashSet<>(technologyCatalog.findAllById(ids));
+    }
+
+    @Named("mapTechnologyIds")
+    default Set<Long> mapTechnologyIds(Set<Technology> technologies) {
+        if (technologies == null) {
+            return new HashSet<>();
+        }
+        return technologies.stream().map(Technology::getId).collect(Collectors.toCollection(HashSet::new));
     }
 }
@@ -27,6 +27,7 @@ public interface UserMapper {
     @Mapping(target = "isCredentialsNonExpired", constant = "true")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     User toEntity(UserRegistrationRequest request);
 
     /**
@@ -0,0 +1,30 @@
+package com.jonathanssm.portfoliobackend.dto.projection;
+
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Projeção de leitura de uma experiência (constructor expression JPQL, sem entidade gerenciada)
+ */
+public record ExperienceRow(
+        Long id,
+        String title,
+        String companyName,
+        String projectName,
+        String description,
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean current,
+        Set<String> responsibilities,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public ExperienceResponse toResponse(Set<ExperienceResponse.TechnologyResponse> technologies) {
+        return new ExperienceResponse(id, title, companyName, projectName, description, startDate, endDate,
+                current, technologies, responsibilities != null ? responsibilities : Set.of(), createdAt, updatedAt);
+    }
+}
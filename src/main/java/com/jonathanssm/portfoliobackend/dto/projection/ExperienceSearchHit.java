@@ -0,0 +1,11 @@
+package com.jonathanssm.portfoliobackend.dto.projection;
+
+/**
+ * Resultado de uma busca textual: id da experiência e sua relevância
+ */
+public interface ExperienceSearchHit {
+
+    Long getId();
+
+    Double getScore();
+}
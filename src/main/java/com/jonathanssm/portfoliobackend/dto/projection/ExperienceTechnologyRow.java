@@ -0,0 +1,11 @@
+package com.jonathanssm.portfoliobackend.dto.projection;
+
+/**
+ * Associação entre experiência e tecnologia (uma linha por associação); os dados da tecnologia
+ * vêm do TechnologyCatalog
+ */
+public record ExperienceTechnologyRow(
+        Long experienceId,
+        Long technologyId
+) {
+}
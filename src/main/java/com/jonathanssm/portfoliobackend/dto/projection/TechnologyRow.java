@@ -0,0 +1,19 @@
+package com.jonathanssm.portfoliobackend.dto.projection;
+
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+
+/**
+ * Projeção de leitura de uma tecnologia com o nome do seu tipo
+ */
+public record TechnologyRow(
+        Long id,
+        String name,
+        String description,
+        String type,
+        Long version
+) {
+
+    public ExperienceResponse.TechnologyResponse toResponse() {
+        return new ExperienceResponse.TechnologyResponse(id, name, description, type, version);
+    }
+}
@@ -0,0 +1,82 @@
+package com.jonathanssm.portfoliobackend.messaging;
+
+import com.jonathanssm.portfoliobackend.constants.KafkaConstants;
+import com.jonathanssm.portfoliobackend.model.event.Event;
+import com.jonathanssm.portfoliobackend.service.RateLimitingService;
+import com.jonathanssm.portfoliobackend.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Consumer de revogações de token e bloqueios de cliente em modo broadcast
+ * <p>
+ * Diferente do AuthConsumer (grupo compartilhado, cada evento vai para uma réplica), aqui as
+ * partições são atribuídas manualmente: toda réplica recebe todos os eventos. No boot o consumo
+ * recomeça do offset 0, reconstruindo revogações e bloqueios ainda válidos a partir da retenção do tópico.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class AuthBroadcastConsumer {
+
+    private final TokenRevocationService tokenRevocationService;
+    private final RateLimitingService rateLimitingService;
+
+    @KafkaListener(
+            id = KafkaConstants.AUTH_REVOCATION_BROADCAST,
+            groupId = KafkaConstants.AUTH_REVOCATION_BROADCAST,
+            topicPartitions = @TopicPartition(
+                    topic = KafkaConstants.AUTH_TOPIC,
+                    partitions = KafkaConstants.ALL_PARTITIONS,
+                    partitionOffsets = @PartitionOffset(partition = "*", initialOffset = "0")
+            )
+    )
+    public void handleAuthEvent(ConsumerRecord<String, Event> consumerRecord) {
+        String key = consumerRecord.key();
+        Event event = consumerRecord.value();
+        if (key == null || event == null || !(event.getPayload() instanceof Map<?, ?> data)) {
+            return;
+        }
+
+        switch (key) {
+            case KafkaConstants.EventKeys.AUTH_LOGOUT, KafkaConstants.EventKeys.AUTH_TOKEN_REFRESH -> applyRevocation(data);
+            case KafkaConstants.EventKeys.AUTH_CLIENT_BLOCKED -> applyBlock(data);
+            default -> {
+                // Demais eventos de auth não alteram estado local
+            }
+        }
+    }
+
+    private void applyRevocation(Map<?, ?> data) {
+        // Eventos anteriores à propagação não carregam o digest do token
+        if (data.get(KafkaConstants.EventFields.TOKEN_ID) instanceof Number tokenId
+                && data.get(KafkaConstants.EventFields.EXPIRES_AT) instanceof Number expiresAt) {
+            tokenRevocationService.revoke(tokenId.longValue(), Instant.ofEpochMilli(expiresAt.longValue()));
+            log.debug("🔒 [KAFKA-AUTH] Token revocation applied");
+        }
+    }
+
+    private void applyBlock(Map<?, ?> data) {
+        if (data.get(KafkaConstants.EventFields.KEY_TYPE) instanceof String keyType
+                && data.get(KafkaConstants.EventFields.BLOCKED_VALUE) instanceof String blockedValue
+                && data.get(KafkaConstants.EventFields.BLOCKED_UNTIL) instanceof Number blockedUntil) {
+            RateLimitingService.KeyType type;
+            try {
+                type = RateLimitingService.KeyType.valueOf(keyType);
+            } catch (IllegalArgumentException e) {
+                // Tipo desconhecido (ex.: publicado por outra versão): ignora o registro sem travar o consumer
+                log.warn("⚠️ [KAFKA-AUTH] Skipping client block with unknown key type: {}", data);
+                return;
+            }
+            rateLimitingService.block(type, blockedValue, blockedUntil.longValue());
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.jonathanssm.portfoliobackend.messaging;
 
 import com.jonathanssm.portfoliobackend.constants.KafkaConstants;
 import com.jonathanssm.portfoliobackend.model.event.Event;
+import com.jonathanssm.portfoliobackend.service.BruteForceDetectionService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -9,8 +11,11 @@ import java.util.Map;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class AuthEventHandler {
 
+    private final BruteForceDetectionService bruteForceDetectionService;
+
     public void handleEvent(String key, Event event) {
         switch (key) {
             case KafkaConstants.EventKeys.AUTH_LOGIN_SUCCESS -> handleLoginSuccess(event);
@@ -18,6 +23,7 @@ public class AuthEventHandler {
             case KafkaConstants.EventKeys.AUTH_LOGOUT -> handleLogout(event);
             case KafkaConstants.EventKeys.AUTH_TOKEN_REFRESH -> handleTokenRefresh(event);
             case KafkaConstants.EventKeys.AUTH_TOKEN_INVALID -> handleTokenInvalid(event);
+            case KafkaConstants.EventKeys.AUTH_CLIENT_BLOCKED -> handleClientBlocked(event);
             default -> log.warn("⚠️ Unhandled auth event key: {}", key);
         }
     }
@@ -41,10 +47,7 @@ public class AuthEventHandler {
         String reason = (String) data.get(KafkaConstants.EventFields.REASON);
 
         log.warn("❌ [SECURITY] Login failed - User: {}, IP: {}, Reason: {}", username, ipAddress, reason);
-        // Event logged for audit purposes
-        // - Bloquear IP após X tentativas
-        // - Enviar alerta de segurança
-        // - Registrar para análise de fraudes
+        bruteForceDetectionService.recordFailure(username, ipAddress);
     }
 
     @SuppressWarnings("unchecked")
@@ -76,8 +79,16 @@ public class AuthEventHandler {
         String reason = (String) data.get(KafkaConstants.EventFields.REASON);
 
         log.warn("⚠️ [SECURITY] Invalid token attempt - IP: {}, Reason: {}", ipAddress, reason);
-        // Event logged for audit purposes
-        // - Possível tentativa de ataque
-        // - Registrar para análise
+        bruteForceDetectionService.recordFailure(null, ipAddress);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void handleClientBlocked(Event event) {
+        Map<String, Object> data = (Map<String, Object>) event.getPayload();
+        Object keyType = data.get(KafkaConstants.EventFields.KEY_TYPE);
+        Object blockedValue = data.get(KafkaConstants.EventFields.BLOCKED_VALUE);
+
+        // Bloqueio aplicado por AuthBroadcastConsumer em todas as réplicas
+        log.warn("🛑 [SECURITY] Client blocked - {}: {}", keyType, blockedValue);
     }
 }
@@ -2,6 +2,7 @@ package com.jonathanssm.portfoliobackend.messaging;
 
 import com.jonathanssm.portfoliobackend.constants.KafkaConstants;
 import com.jonathanssm.portfoliobackend.model.User;
+import com.jonathanssm.portfoliobackend.util.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -24,20 +25,38 @@ public class AuthProducer {
     }
 
     /**
-     * Evento de logout
+     * Evento de login falhado (credenciais inválidas)
      */
-    public void sendLogout(User user, String ipAddress, String userAgent) {
+    public void sendLoginFailure(String username, String ipAddress, String userAgent, String reason) {
+        eventPublisher.publish(TOPIC, KafkaConstants.EventKeys.AUTH_LOGIN_FAILURE,
+                EventFactory.createAuthFailurePayload(username, ipAddress, userAgent, reason));
+        log.debug("❌ Login failure event published for user: {}", username);
+    }
+
+    /**
+     * Evento de bloqueio de cliente (IP ou usuário), aplicado por todas as réplicas
+     */
+    public void sendClientBlocked(String keyType, String blockedValue, long blockedUntil, String reason) {
+        eventPublisher.publish(TOPIC, KafkaConstants.EventKeys.AUTH_CLIENT_BLOCKED,
+                EventFactory.createClientBlockedPayload(keyType, blockedValue, blockedUntil, reason));
+        log.debug("🛑 Client blocked event published: {} {}", keyType, blockedValue);
+    }
+
+    /**
+     * Evento de logout (propaga a revogação do token para todas as réplicas)
+     */
+    public void sendLogout(User user, VerifiedToken revokedToken, String ipAddress, String userAgent) {
         eventPublisher.publish(TOPIC, KafkaConstants.EventKeys.AUTH_LOGOUT,
-                EventFactory.createAuthEventPayload(user, ipAddress, userAgent));
+                EventFactory.createTokenRevocationPayload(user, revokedToken, ipAddress, userAgent));
         log.debug("🚪 Logout event published for user: {}", user.getUsername());
     }
 
     /**
-     * Evento de refresh token
+     * Evento de refresh token (propaga a revogação do refresh token usado)
      */
-    public void sendTokenRefresh(User user, String ipAddress, String userAgent) {
+    public void sendTokenRefresh(User user, VerifiedToken revokedToken, String ipAddress, String userAgent) {
         eventPublisher.publish(TOPIC, KafkaConstants.EventKeys.AUTH_TOKEN_REFRESH,
-                EventFactory.createAuthEventPayload(user, ipAddress, userAgent));
+                EventFactory.createTokenRevocationPayload(user, revokedToken, ipAddress, userAgent));
         log.debug("🔄 Token refresh event published for user: {}", user.getUsername());
     }
 
@@ -3,7 +3,10 @@ package com.jonathanssm.portfoliobackend.messaging;
 import com.jonathanssm.portfoliobackend.constants.DefaultConstants;
 import com.jonathanssm.portfoliobackend.constants.KafkaConstants;
 import com.jonathanssm.portfoliobackend.model.User;
+import com.jonathanssm.portfoliobackend.util.VerifiedToken;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -26,6 +29,7 @@ public final class EventFactory {
                 KafkaConstants.EventFields.EMAIL, user.getEmail(),
                 KafkaConstants.EventFields.FIRST_NAME, user.getFirstName() != null ? user.getFirstName() : DefaultConstants.EMPTY_STRING,
                 KafkaConstants.EventFields.LAST_NAME, user.getLastName() != null ? user.getLastName() : DefaultConstants.EMPTY_STRING,
+                KafkaConstants.EventFields.TOKEN_VERSION, user.getTokenVersion() != null ? user.getTokenVersion() : 0L,
                 KafkaConstants.EventFields.TIMESTAMP, System.currentTimeMillis()
         );
     }
@@ -44,6 +48,18 @@ public final class EventFactory {
         );
     }
 
+    /**
+     * Cria payload para eventos de autenticação que revogam um token (logout/refresh)
+     * <p>
+     * Carrega apenas o digest do token e sua expiração, nunca o token em si.
+     */
+    public static Map<String, Object> createTokenRevocationPayload(User user, VerifiedToken revokedToken, String ipAddress, String userAgent) {
+        Map<String, Object> payload = new HashMap<>(createAuthEventPayload(user, ipAddress, userAgent));
+        payload.put(KafkaConstants.EventFields.TOKEN_ID, revokedToken.tokenId());
+        payload.put(KafkaConstants.EventFields.EXPIRES_AT, revokedToken.expiresAt().toEpochMilli());
+        return payload;
+    }
+
     /**
      * Cria payload para eventos de falha de autenticação
      */
@@ -57,6 +73,58 @@ public final class EventFactory {
         );
     }
 
+    /**
+     * Cria payload para eventos de bloqueio de cliente (IP ou usuário) por força bruta
+     */
+    public static Map<String, Object> createClientBlockedPayload(String keyType, String blockedValue, long blockedUntil, String reason) {
+        return Map.of(
+                KafkaConstants.EventFields.KEY_TYPE, keyType,
+                KafkaConstants.EventFields.BLOCKED_VALUE, blockedValue,
+                KafkaConstants.EventFields.BLOCKED_UNTIL, blockedUntil,
+                KafkaConstants.EventFields.REASON, reason != null ? reason : DefaultConstants.UNKNOWN,
+                KafkaConstants.EventFields.TIMESTAMP, System.currentTimeMillis()
+        );
+    }
+
+    /**
+     * Cria payload do agregado periódico de leituras de experiências
+     */
+    public static Map<String, Object> createExperienceReadsPayload(String nodeId, long intervalStart, long intervalEnd,
+                                                                   Map<String, Map<String, Long>> endpoints,
+                                                                   Map<Long, Long> idHistogram, long untrackedIdReads) {
+        return Map.of(
+                KafkaConstants.EventFields.NODE_ID, nodeId,
+                KafkaConstants.EventFields.INTERVAL_START, intervalStart,
+                KafkaConstants.EventFields.INTERVAL_END, intervalEnd,
+                KafkaConstants.EventFields.ENDPOINTS, endpoints,
+                KafkaConstants.EventFields.ID_HISTOGRAM, idHistogram,
+                KafkaConstants.EventFields.UNTRACKED_ID_READS, untrackedIdReads,
+                KafkaConstants.EventFields.TIMESTAMP, System.currentTimeMillis()
+        );
+    }
+
+    /**
+     * Cria payload do resumo de uma importação em lote de experiências
+     */
+    public static Map<String, Object> createExperienceImportPayload(List<Long> experienceIds) {
+        return Map.of(
+                KafkaConstants.EventFields.IMPORTED_COUNT, experienceIds.size(),
+                KafkaConstants.EventFields.EXPERIENCE_IDS, experienceIds,
+                KafkaConstants.EventFields.TIMESTAMP, System.currentTimeMillis()
+        );
+    }
+
+    /**
+     * Cria payload do resumo de uma exclusão em lote de experiências
+     */
+    public static Map<String, Object> createExperienceBulkDeletePayload(List<Long> experienceIds) {
+        return Map.of(
+                KafkaConstants.EventFields.DELETED_COUNT, experienceIds.size(),
+                KafkaConstants.EventFields.EXPERIENCE_IDS, experienceIds,
+                KafkaConstants.EventFields.TIMESTAMP, System.currentTimeMillis()
+        );
+    }
+
     /**
      * Cria payload para eventos de admin
      */
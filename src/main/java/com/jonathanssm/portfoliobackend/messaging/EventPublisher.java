@@ -2,13 +2,22 @@ package com.jonathanssm.portfoliobackend.messaging;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jonathanssm.portfoliobackend.constants.KafkaConstants;
 import com.jonathanssm.portfoliobackend.model.event.Event;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -17,6 +26,8 @@ public class EventPublisher {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    // Identifica esta instância nas mensagens publicadas: consumers em broadcast ignoram as próprias
+    private final byte[] instanceId = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
 
     public void publish(String topic, String key, Object payload) {
         Event event = Event.builder()
@@ -25,7 +36,9 @@ public class EventPublisher {
                 .timestamp(Instant.now())
                 .build();
 
-        kafkaTemplate.send(topic, key, event);
+        ProducerRecord<String, Object> producerRecord = new ProducerRecord<>(topic, key, event);
+        producerRecord.headers().add(KafkaConstants.ORIGIN_HEADER, instanceId);
+        kafkaTemplate.send(producerRecord);
 
         String payloadType = payload != null ? payload.getClass().getSimpleName() : "null";
         try {
@@ -50,4 +63,29 @@ public class EventPublisher {
             );
         }
     }
+
+    /**
+     * Publica somente após o commit da transação corrente (imediatamente fora de transação):
+     * nenhuma réplica recebe escritas revertidas ou ainda não visíveis no banco
+     */
+    public void publishAfterCommit(String topic, String key, Object payload) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(topic, key, payload);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(topic, key, payload);
+            }
+        });
+    }
+
+    /**
+     * Indica se a mensagem recebida foi publicada por esta instância
+     */
+    public boolean isLocal(ConsumerRecord<?, ?> consumerRecord) {
+        Header origin = consumerRecord.headers().lastHeader(KafkaConstants.ORIGIN_HEADER);
+        return origin != null && Arrays.equals(instanceId, origin.value());
+    }
 }
@@ -0,0 +1,94 @@
+package com.jonathanssm.portfoliobackend.messaging;
+
+import com.jonathanssm.portfoliobackend.constants.KafkaConstants;
+import com.jonathanssm.portfoliobackend.model.event.Event;
+import com.jonathanssm.portfoliobackend.model.event.ExperienceChangedEvent;
+import com.jonathanssm.portfoliobackend.model.event.ExperiencesChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consumer em modo broadcast que mantém os caches de experiências de cada réplica
+ * <p>
+ * Escritas commitadas em outra réplica viram os mesmos eventos internos publicados localmente
+ * (ExperienceChangedEvent / ExperiencesChangedEvent), então o snapshot serializado e o índice de
+ * filtros reagem igual nas duas origens. Partições atribuídas manualmente e posicionadas no fim no boot: o estado
+ * inicial já vem do banco, só interessam escritas novas. Mensagens publicadas por esta instância
+ * são ignoradas (já aplicadas no commit).
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ExperienceBroadcastConsumer extends AbstractConsumerSeekAware {
+
+    private final EventPublisher eventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @KafkaListener(
+            id = KafkaConstants.EXPERIENCE_CACHE_BROADCAST,
+            groupId = KafkaConstants.EXPERIENCE_CACHE_BROADCAST,
+            topicPartitions = @TopicPartition(
+                    topic = KafkaConstants.EXPERIENCE_TOPIC,
+                    partitions = KafkaConstants.ALL_PARTITIONS
+            )
+    )
+    public void handleExperienceEvent(ConsumerRecord<String, Event> consumerRecord) {
+        String key = consumerRecord.key();
+        Event event = consumerRecord.value();
+        if (key == null || event == null || eventPublisher.isLocal(consumerRecord)) {
+            return;
+        }
+
+        Object payload = event.getPayload();
+        switch (key) {
+            case KafkaConstants.EventKeys.EXPERIENCE_CREATED, KafkaConstants.EventKeys.EXPERIENCE_UPDATED -> {
+                if (payload instanceof Map<?, ?> data && data.get(KafkaConstants.EventFields.ID) instanceof Number id) {
+                    applyChange(id.longValue());
+                }
+            }
+            case KafkaConstants.EventKeys.EXPERIENCE_DELETED -> {
+                if (payload instanceof Number id) {
+                    applyChange(id.longValue());
+                }
+            }
+            case KafkaConstants.EventKeys.EXPERIENCE_IMPORTED, KafkaConstants.EventKeys.EXPERIENCE_BULK_DELETED -> {
+                if (payload instanceof Map<?, ?> data && data.get(KafkaConstants.EventFields.EXPERIENCE_IDS) instanceof List<?> ids) {
+                    applyChanges(ids);
+                }
+            }
+            default -> {
+                // Leituras e telemetria não alteram experiências
+            }
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<org.apache.kafka.common.TopicPartition, Long> assignments,
+                                     ConsumerSeekCallback callback) {
+        super.onPartitionsAssigned(assignments, callback);
+        callback.seekToEnd(assignments.keySet());
+    }
+
+    private void applyChange(long experienceId) {
+        log.debug("♻️ [KAFKA-EXPERIENCE] Experience {} changed on another node", experienceId);
+        applicationEventPublisher.publishEvent(new ExperienceChangedEvent(experienceId));
+    }
+
+    private void applyChanges(List<?> ids) {
+        List<Long> experienceIds = ids.stream()
+                .filter(Number.class::isInstance)
+                .map(id -> ((Number) id).longValue())
+                .toList();
+        log.debug("♻️ [KAFKA-EXPERIENCE] {} experiences changed on another node", experienceIds.size());
+        applicationEventPublisher.publishEvent(new ExperiencesChangedEvent(experienceIds));
+    }
+}
@@ -14,7 +14,10 @@ public class ExperienceEventHandler {
             case KafkaConstants.EventKeys.EXPERIENCE_CREATED -> handleCreated(event);
             case KafkaConstants.EventKeys.EXPERIENCE_UPDATED -> handleUpdated(event);
             case KafkaConstants.EventKeys.EXPERIENCE_DELETED -> handleDeleted(event);
+            case KafkaConstants.EventKeys.EXPERIENCE_IMPORTED -> handleImported(event);
+            case KafkaConstants.EventKeys.EXPERIENCE_BULK_DELETED -> handleBulkDeleted(event);
             case KafkaConstants.EventKeys.EXPERIENCE_FETCHED -> handleFetched(event);
+            case KafkaConstants.EventKeys.EXPERIENCE_READS -> handleReads(event);
             default -> log.warn("⚠️ Unhandled event key: {}", key);
         }
     }
@@ -32,7 +35,19 @@ public class ExperienceEventHandler {
         log.info("🗑️ Experience deleted: {}", event.getPayload());
     }
 
+    private void handleImported(Event event) {
+        log.info("📥 Experiences imported: {}", event.getPayload());
+    }
+
+    private void handleBulkDeleted(Event event) {
+        log.info("🗑️ Experiences deleted in bulk: {}", event.getPayload());
+    }
+
     private void handleFetched(Event event) {
         log.info("📊 Experience fetched count: {}", event.getPayload());
     }
+
+    private void handleReads(Event event) {
+        log.info("📊 Experience reads aggregate: {}", event.getPayload());
+    }
 }
@@ -1,10 +1,18 @@
 package com.jonathanssm.portfoliobackend.messaging;
 
 import com.jonathanssm.portfoliobackend.constants.KafkaConstants;
-import com.jonathanssm.portfoliobackend.model.Experience;
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
+/**
+ * Producer de eventos de experiências
+ * <p>
+ * Eventos de escrita saem só após o commit: as réplicas reconstroem seus caches a partir deles
+ * (ExperienceBroadcastConsumer) e precisam enxergar o novo estado no banco.
+ */
 @Component
 @RequiredArgsConstructor
 public class ExperienceProducer {
@@ -13,19 +21,27 @@ public class ExperienceProducer {
 
     private final EventPublisher eventPublisher;
 
-    public void sendExperienceCreated(Experience experience) {
-        eventPublisher.publish(TOPIC, KafkaConstants.EventKeys.EXPERIENCE_CREATED, experience);
+    public void sendExperienceCreated(ExperienceResponse experience) {
+        eventPublisher.publishAfterCommit(TOPIC, KafkaConstants.EventKeys.EXPERIENCE_CREATED, experience);
+    }
+
+    public void sendExperienceUpdated(ExperienceResponse experience) {
+        eventPublisher.publishAfterCommit(TOPIC, KafkaConstants.EventKeys.EXPERIENCE_UPDATED, experience);
+    }
+
+    public void sendExperiencesImported(Map<String, Object> payload) {
+        eventPublisher.publishAfterCommit(TOPIC, KafkaConstants.EventKeys.EXPERIENCE_IMPORTED, payload);
     }
 
-    public void sendExperienceUpdated(Experience experience) {
-        eventPublisher.publish(TOPIC, KafkaConstants.EventKeys.EXPERIENCE_UPDATED, experience);
+    public void sendExperiencesDeleted(Map<String, Object> payload) {
+        eventPublisher.publishAfterCommit(TOPIC, KafkaConstants.EventKeys.EXPERIENCE_BULK_DELETED, payload);
     }
 
-    public void sendExperienceFetched(int count) {
-        eventPublisher.publish(TOPIC, KafkaConstants.EventKeys.EXPERIENCE_FETCHED, count);
+    public void sendExperienceReads(Map<String, Object> payload) {
+        eventPublisher.publish(TOPIC, KafkaConstants.EventKeys.EXPERIENCE_READS, payload);
     }
 
     public void sendExperienceDeleted(long id) {
-        eventPublisher.publish(TOPIC, KafkaConstants.EventKeys.EXPERIENCE_DELETED, id);
+        eventPublisher.publishAfterCommit(TOPIC, KafkaConstants.EventKeys.EXPERIENCE_DELETED, id);
     }
 }
\ No newline at end of file
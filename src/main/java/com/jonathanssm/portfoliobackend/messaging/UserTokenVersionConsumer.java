@@ -0,0 +1,59 @@
+package com.jonathanssm.portfoliobackend.messaging;
+
+import com.jonathanssm.portfoliobackend.constants.KafkaConstants;
+import com.jonathanssm.portfoliobackend.model.event.Event;
+import com.jonathanssm.portfoliobackend.service.UserTokenVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Consumer em modo broadcast que mantém o cache de versão de tokens de cada réplica
+ * <p>
+ * Partições atribuídas manualmente (todas as réplicas recebem todos os eventos), a partir do
+ * offset 0. O replay no boot é inofensivo: versões só avançam (merge por máximo), e usuários
+ * sem evento retido são carregados do banco no primeiro acesso.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserTokenVersionConsumer {
+
+    private final UserTokenVersionService userTokenVersionService;
+
+    @KafkaListener(
+            id = KafkaConstants.USER_TOKEN_VERSION_BROADCAST,
+            groupId = KafkaConstants.USER_TOKEN_VERSION_BROADCAST,
+            topicPartitions = @TopicPartition(
+                    topic = KafkaConstants.USER_TOPIC,
+                    partitions = KafkaConstants.ALL_PARTITIONS,
+                    partitionOffsets = @PartitionOffset(partition = "*", initialOffset = "0")
+            )
+    )
+    public void handleUserEvent(ConsumerRecord<String, Event> consumerRecord) {
+        String key = consumerRecord.key();
+        Event event = consumerRecord.value();
+        if (key == null || event == null || !(event.getPayload() instanceof Map<?, ?> data)
+                || !(data.get(KafkaConstants.EventFields.USER_ID) instanceof Number userId)) {
+            return;
+        }
+
+        switch (key) {
+            case KafkaConstants.EventKeys.USER_UPDATED -> {
+                if (data.get(KafkaConstants.EventFields.TOKEN_VERSION) instanceof Number tokenVersion) {
+                    userTokenVersionService.update(userId.longValue(), tokenVersion.longValue());
+                }
+            }
+            case KafkaConstants.EventKeys.USER_DELETED -> userTokenVersionService.evict(userId.longValue());
+            default -> {
+                // Demais eventos não alteram a versão de tokens
+            }
+        }
+    }
+}
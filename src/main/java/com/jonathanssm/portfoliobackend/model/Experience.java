@@ -1,12 +1,14 @@
 package com.jonathanssm.portfoliobackend.model;
 
-import com.jonathanssm.portfoliobackend.util.StringSetJsonConverter;
+import com.jonathanssm.portfoliobackend.constants.DefaultConstants;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.envers.Audited;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -26,7 +28,9 @@ import java.util.Set;
 public class Experience {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "experiences_id_seq")
+    @SequenceGenerator(name = "experiences_id_seq", sequenceName = "experiences_id_seq", schema = "portfolio",
+            allocationSize = DefaultConstants.Persistence.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -58,8 +62,9 @@ public class Experience {
     )
     private Set<Technology> technologies = new HashSet<>();
 
-    @Column(name = "responsibilities", columnDefinition = "TEXT")
-    @Convert(converter = StringSetJsonConverter.class)
+    // jsonb no Postgres (indexável com GIN), json no H2
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "responsibilities")
     private Set<String> responsibilities = new HashSet<>();
 
     @CreatedDate
@@ -69,8 +74,21 @@ public class Experience {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @PrePersist
+    protected void onCreate() {
+        normalizeResponsibilities();
+    }
+
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        normalizeResponsibilities();
+    }
+
+    // Sem responsabilidades grava [] e nunca NULL: entidade e projeção leem sempre uma coleção
+    private void normalizeResponsibilities() {
+        if (responsibilities == null) {
+            responsibilities = new HashSet<>();
+        }
     }
 }
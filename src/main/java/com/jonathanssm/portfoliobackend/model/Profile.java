@@ -1,5 +1,6 @@
 package com.jonathanssm.portfoliobackend.model;
 
+import com.jonathanssm.portfoliobackend.constants.DefaultConstants;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -25,7 +26,9 @@ import java.util.Set;
 public class Profile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "profiles_id_seq")
+    @SequenceGenerator(name = "profiles_id_seq", sequenceName = "profiles_id_seq", schema = "portfolio",
+            allocationSize = DefaultConstants.Persistence.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
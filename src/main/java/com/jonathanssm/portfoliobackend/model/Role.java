@@ -1,5 +1,6 @@
 package com.jonathanssm.portfoliobackend.model;
 
+import com.jonathanssm.portfoliobackend.constants.DefaultConstants;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -23,7 +24,9 @@ import java.time.LocalDateTime;
 public class Role {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roles_id_seq")
+    @SequenceGenerator(name = "roles_id_seq", sequenceName = "roles_id_seq", schema = "portfolio",
+            allocationSize = DefaultConstants.Persistence.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -1,5 +1,6 @@
 package com.jonathanssm.portfoliobackend.model;
 
+import com.jonathanssm.portfoliobackend.constants.DefaultConstants;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -24,7 +25,9 @@ import java.util.Set;
 public class Technology {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "technologies_id_seq")
+    @SequenceGenerator(name = "technologies_id_seq", sequenceName = "technologies_id_seq", schema = "portfolio",
+            allocationSize = DefaultConstants.Persistence.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -1,11 +1,14 @@
 package com.jonathanssm.portfoliobackend.model;
 
+import com.jonathanssm.portfoliobackend.constants.DefaultConstants;
+import com.jonathanssm.portfoliobackend.constants.SecurityConstants;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.envers.Audited;
+import org.hibernate.envers.NotAudited;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -30,7 +33,9 @@ import java.util.stream.Collectors;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", schema = "portfolio",
+            allocationSize = DefaultConstants.Persistence.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -69,6 +74,11 @@ public class User implements UserDetails {
     @Column(name = "is_credentials_non_expired", nullable = false)
     private Boolean isCredentialsNonExpired = true;
 
+    // Geração dos tokens do usuário: tokens com versão inferior são rejeitados
+    @NotAudited
+    @Column(name = "token_version", nullable = false)
+    private Long tokenVersion = 0L;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -81,7 +91,7 @@ public class User implements UserDetails {
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return profiles.stream()
                 .flatMap(profile -> profile.getRoles().stream())
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName().name()))
+                .map(role -> new SimpleGrantedAuthority(SecurityConstants.Authentication.ROLE_PREFIX + role.getName().name()))
                 .collect(Collectors.toSet());
     }
 
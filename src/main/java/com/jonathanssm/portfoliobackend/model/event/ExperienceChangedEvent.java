@@ -0,0 +1,9 @@
+package com.jonathanssm.portfoliobackend.model.event;
+
+/**
+ * Evento interno (Spring) publicado quando uma experiência é criada, atualizada ou removida
+ * <p>
+ * Consumido após o commit para reconstruir o snapshot serializado de experiências.
+ */
+public record ExperienceChangedEvent(Long experienceId) {
+}
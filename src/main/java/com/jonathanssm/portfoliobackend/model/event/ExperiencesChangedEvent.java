@@ -0,0 +1,11 @@
+package com.jonathanssm.portfoliobackend.model.event;
+
+import java.util.List;
+
+/**
+ * Evento interno (Spring) publicado quando uma operação em lote (importação, exclusão) é commitada
+ * <p>
+ * Substitui um ExperienceChangedEvent por linha: os caches derivados reconstroem uma única vez.
+ */
+public record ExperiencesChangedEvent(List<Long> experienceIds) {
+}
@@ -0,0 +1,9 @@
+package com.jonathanssm.portfoliobackend.model.event;
+
+/**
+ * Evento interno (Spring) publicado quando uma recarga do TechnologyCatalog encontra conteúdo diferente
+ * <p>
+ * Consumido para reconstruir os caches de experiências que embutem dados de tecnologias.
+ */
+public record TechnologyCatalogChangedEvent() {
+}
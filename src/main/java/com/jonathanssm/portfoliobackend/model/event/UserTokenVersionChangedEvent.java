@@ -0,0 +1,12 @@
+package com.jonathanssm.portfoliobackend.model.event;
+
+import com.jonathanssm.portfoliobackend.model.User;
+
+/**
+ * Evento interno (Spring) publicado quando a versão de tokens de um usuário é incrementada
+ * <p>
+ * Consumido após o commit: cache local e réplicas só passam a exigir a nova versão depois que
+ * ela está gravada no banco.
+ */
+public record UserTokenVersionChangedEvent(User user) {
+}
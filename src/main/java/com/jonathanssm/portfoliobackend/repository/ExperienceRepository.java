@@ -1,15 +1,119 @@
 package com.jonathanssm.portfoliobackend.repository;
 
+import com.jonathanssm.portfoliobackend.dto.projection.ExperienceRow;
+import com.jonathanssm.portfoliobackend.dto.projection.ExperienceSearchHit;
+import com.jonathanssm.portfoliobackend.dto.projection.ExperienceTechnologyRow;
 import com.jonathanssm.portfoliobackend.model.Experience;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ExperienceRepository extends JpaRepository<Experience, Long> {
 
-    @Query("SELECT e FROM Experience e LEFT JOIN FETCH e.technologies t LEFT JOIN FETCH t.type ORDER BY e.startDate DESC")
-    List<Experience> findAllWithTechnologies();
+    // Paginação por cursor (keyset): ordem estável (startDate DESC, id DESC), sem OFFSET nem count
+    @Query("SELECT e.id FROM Experience e ORDER BY e.startDate DESC, e.id DESC")
+    List<Long> findFirstPageIds(Limit limit);
+
+    @Query("""
+            SELECT e.id FROM Experience e
+            WHERE e.startDate < :startDate OR (e.startDate = :startDate AND e.id < :id)
+            ORDER BY e.startDate DESC, e.id DESC
+            """)
+    List<Long> findPageIdsAfter(@Param("startDate") LocalDate startDate, @Param("id") Long id, Limit limit);
+
+    int EXPORT_FETCH_SIZE = 500;
+
+    // Projeções de leitura: constructor expressions, sem hidratar entidades
+    String EXPERIENCE_ROW = """
+            SELECT new com.jonathanssm.portfoliobackend.dto.projection.ExperienceRow(
+                e.id, e.title, e.companyName, e.projectName, e.description, e.startDate, e.endDate,
+                e.current, e.responsibilities, e.createdAt, e.updatedAt)
+            FROM Experience e
+            """;
+
+    // Apenas os pares (experiência, tecnologia): nome/tipo/versão vêm do TechnologyCatalog
+    String TECHNOLOGY_ROW = """
+            SELECT new com.jonathanssm.portfoliobackend.dto.projection.ExperienceTechnologyRow(e.id, t.id)
+            FROM Experience e JOIN e.technologies t
+            """;
+
+    @Query(EXPERIENCE_ROW + "ORDER BY e.startDate DESC, e.id DESC")
+    List<ExperienceRow> findAllRows();
+
+    @Query(EXPERIENCE_ROW + "WHERE e.id IN :ids")
+    List<ExperienceRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Cursor JDBC com fetch size: linhas lidas sob demanda (exige transação aberta durante o consumo)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query(EXPERIENCE_ROW + "ORDER BY e.id")
+    Stream<ExperienceRow> streamAllRows();
+
+    @Query(TECHNOLOGY_ROW)
+    List<ExperienceTechnologyRow> findAllTechnologyRows();
+
+    @Query(TECHNOLOGY_ROW + "WHERE e.id IN :ids")
+    List<ExperienceTechnologyRow> findTechnologyRowsByExperienceIdIn(@Param("ids") Collection<Long> ids);
+
+    // Busca textual: ids + relevância, keyset por (score DESC, id DESC); a primeira página usa
+    // score/id máximos. Limit é size + 1 para indicar se existe próxima página.
+
+    // Postgres: tsvector mantido por trigger (changeset 006) e índice GIN
+    @Query(value = """
+            SELECT hits.id AS id, hits.score AS score
+            FROM (
+                SELECT e.id AS id, CAST(ts_rank(e.search_vector, q.query) AS double precision) AS score
+                FROM portfolio.experiences e, websearch_to_tsquery('simple', :query) AS q(query)
+                WHERE e.search_vector @@ q.query
+            ) hits
+            WHERE hits.score < :score OR (hits.score = :score AND hits.id < :id)
+            ORDER BY hits.score DESC, hits.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ExperienceSearchHit> searchFullText(@Param("query") String query, @Param("score") double score,
+                                             @Param("id") long id, @Param("limit") int limit);
+
+    // Fallback (H2 nos testes): LIKE sem índice, com pesos equivalentes (título > empresa/projeto/tecnologias > texto)
+    @Query(value = """
+            SELECT hits.id AS id, hits.score AS score
+            FROM (
+                SELECT e.id AS id, CAST(
+                    CASE WHEN LOWER(e.title) LIKE :pattern THEN 4 ELSE 0 END
+                    + CASE WHEN LOWER(e.company_name) LIKE :pattern
+                             OR LOWER(COALESCE(e.project_name, '')) LIKE :pattern THEN 2 ELSE 0 END
+                    + CASE WHEN EXISTS (
+                             SELECT 1 FROM portfolio.experience_technologies et
+                             JOIN portfolio.technologies t ON t.id = et.technology_id
+                             WHERE et.experience_id = e.id AND LOWER(t.name) LIKE :pattern) THEN 2 ELSE 0 END
+                    + CASE WHEN LOWER(COALESCE(e.description, '')) LIKE :pattern
+                             OR LOWER(COALESCE(CAST(e.responsibilities AS VARCHAR), '')) LIKE :pattern THEN 1 ELSE 0 END
+                    AS double precision) AS score
+                FROM portfolio.experiences e
+            ) hits
+            WHERE hits.score > 0 AND (hits.score < :score OR (hits.score = :score AND hits.id < :id))
+            ORDER BY hits.score DESC, hits.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ExperienceSearchHit> searchByPattern(@Param("pattern") String pattern, @Param("score") double score,
+                                              @Param("id") long id, @Param("limit") int limit);
+
+    @Query("SELECT e.id FROM Experience e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Exclusão em lote: um DELETE para experience_technologies (gerado pelo Hibernate para a
+    // coleção) e um para experiences, sem carregar entidades
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Experience e WHERE e.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,9 +1,21 @@
 package com.jonathanssm.portfoliobackend.repository;
 
+import com.jonathanssm.portfoliobackend.dto.projection.TechnologyRow;
 import com.jonathanssm.portfoliobackend.model.Technology;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TechnologyRepository extends JpaRepository<Technology, Long> {
+
+    // Catálogo completo em uma consulta, tipo incluído (sem lazy loading de Technology.type)
+    @Query("""
+            SELECT new com.jonathanssm.portfoliobackend.dto.projection.TechnologyRow(
+                t.id, t.name, t.description, tt.name, t.version)
+            FROM Technology t LEFT JOIN t.type tt
+            """)
+    List<TechnologyRow> findAllRows();
 }
@@ -1,19 +1,26 @@
 package com.jonathanssm.portfoliobackend.service;
 
-import com.jonathanssm.portfoliobackend.constants.TransactionConstants;
 import com.jonathanssm.portfoliobackend.dto.AuthResponse;
 import com.jonathanssm.portfoliobackend.messaging.AuthProducer;
 import com.jonathanssm.portfoliobackend.model.User;
+import com.jonathanssm.portfoliobackend.util.VerifiedToken;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Service de orquestração de login, refresh e logout
+ * <p>
+ * Os fluxos não são transacionais: apenas a carga do usuário (UserAuthenticationService) abre
+ * uma transação curta de leitura. BCrypt, geração de tokens e publicação no Kafka acontecem
+ * depois, sem segurar conexão do pool.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -39,7 +46,6 @@ public class AuthService {
      * SRP: Responsabilidade única - orquestração do processo de login
      * DIP: Depende de abstrações (services injetados)
      */
-    @Transactional(timeout = TransactionConstants.AUTH_TIMEOUT)
     public LoginResult login(String username, String password, String ipAddress, String userAgent) {
         // Configurar MDC para logging estruturado
         MDC.put("username", username);
@@ -54,12 +60,23 @@ public class AuthService {
             if (rateLimitingService.isAccountLocked(username, ipAddress)) {
                 int remainingAttempts = rateLimitingService.getRemainingAttempts(username, ipAddress);
                 metricsService.recordFailedLogin();
-                throw new IllegalArgumentException("Account temporarily locked. Try again in 15 minutes. Remaining attempts: " + remainingAttempts);
+                throw new IllegalArgumentException("Account temporarily locked. Try again in "
+                        + rateLimitingService.getLockoutMinutes() + " minutes. Remaining attempts: " + remainingAttempts);
             }
 
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(username, password)
-            );
+            Authentication authentication;
+            try {
+                authentication = authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(username, password)
+                );
+            } catch (BadCredentialsException e) {
+                rateLimitingService.recordFailedAttempt(username, ipAddress);
+                metricsService.recordFailedLogin();
+
+                // Alimenta a detecção de força bruta no consumer de auth
+                authProducer.sendLoginFailure(username, ipAddress, userAgent, "Invalid credentials");
+                throw e;
+            }
 
             User user = (User) authentication.getPrincipal();
             AuthTokenService.TokenPair tokenPair = authTokenService.generateTokens(user);
@@ -92,16 +109,17 @@ public class AuthService {
      * SRP: Responsabilidade única - orquestração do refresh de tokens
      * DIP: Depende de abstrações (services injetados)
      */
-    @Transactional(timeout = TransactionConstants.AUTH_TIMEOUT)
     public RefreshResult refreshToken(String refreshToken, String ipAddress, String userAgent) {
         log.info("🔄 Attempting token refresh");
 
-        if (!authTokenService.validateToken(refreshToken)) {
+        // Token verificado uma única vez; subject reaproveitado das claims já validadas
+        VerifiedToken verifiedToken = authTokenService.verifyToken(refreshToken).orElse(null);
+        if (verifiedToken == null) {
             authProducer.sendTokenValidationFailure(refreshToken, ipAddress, userAgent, "Invalid or expired refresh token");
             throw new IllegalArgumentException("Invalid or expired refresh token");
         }
 
-        String username = authTokenService.extractUsername(refreshToken);
+        String username = verifiedToken.subject();
         if (username == null) {
             authProducer.sendTokenValidationFailure(refreshToken, ipAddress, userAgent, "Invalid token format");
             throw new IllegalArgumentException("Invalid refresh token format");
@@ -109,13 +127,13 @@ public class AuthService {
 
         User user = (User) userAuthenticationService.loadUserByUsername(username);
         AuthTokenService.TokenPair newTokenPair = authTokenService.generateTokens(user);
-        authTokenService.invalidateToken(refreshToken);
+        authTokenService.invalidateToken(verifiedToken);
 
         AuthResponse authResponse = authTokenService.createAuthResponse(user, newTokenPair.accessToken());
         log.info("✅ Token refresh successful for user: {}", username);
 
         // Publicar evento de refresh token
-        authProducer.sendTokenRefresh(user, ipAddress, userAgent);
+        authProducer.sendTokenRefresh(user, verifiedToken, ipAddress, userAgent);
 
         return new RefreshResult(authResponse, newTokenPair.accessToken(), newTokenPair.refreshToken());
     }
@@ -126,7 +144,6 @@ public class AuthService {
      * SRP: Delegação para AuthTokenService
      * DIP: Depende de abstração (AuthTokenService)
      */
-    @Transactional(readOnly = true, timeout = TransactionConstants.AUTH_TIMEOUT)
     public boolean validateToken(String token) {
         return authTokenService.validateToken(token);
     }
@@ -137,19 +154,19 @@ public class AuthService {
      * SRP: Responsabilidade única - orquestração do logout
      * DIP: Depende de abstrações (services injetados)
      */
-    @Transactional(timeout = TransactionConstants.AUTH_TIMEOUT)
     public void logout(String token, String ipAddress, String userAgent) {
         log.info("🚪 Attempting logout");
 
         if (token != null) {
-            String username = authTokenService.extractUsername(token);
+            VerifiedToken verifiedToken = authTokenService.verifyToken(token).orElse(null);
+            String username = verifiedToken != null ? verifiedToken.subject() : null;
             if (username != null) {
                 User user = (User) userAuthenticationService.loadUserByUsername(username);
-                authTokenService.invalidateToken(token);
+                authTokenService.invalidateToken(verifiedToken);
                 log.info("✅ Logout successful for user: {}", username);
 
                 // Publicar evento de logout
-                authProducer.sendLogout(user, ipAddress, userAgent);
+                authProducer.sendLogout(user, verifiedToken, ipAddress, userAgent);
             }
         }
     }
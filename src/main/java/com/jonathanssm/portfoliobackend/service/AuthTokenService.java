@@ -1,17 +1,17 @@
 package com.jonathanssm.portfoliobackend.service;
 
 import com.jonathanssm.portfoliobackend.constants.SecurityConstants;
-import com.jonathanssm.portfoliobackend.constants.TransactionConstants;
 import com.jonathanssm.portfoliobackend.dto.AuthResponse;
 import com.jonathanssm.portfoliobackend.model.User;
 import com.jonathanssm.portfoliobackend.util.JwtUtil;
 import com.jonathanssm.portfoliobackend.util.RequestHelper;
+import com.jonathanssm.portfoliobackend.util.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -19,6 +19,8 @@ import java.util.stream.Collectors;
  * <p>
  * SRP: Responsabilidade única - apenas operações com tokens
  * DIP: Depende de abstrações (JwtUtil injetado)
+ * <p>
+ * Nenhum método é transacional: tokens são gerados e verificados em memória, sem conexão do pool.
  */
 @Slf4j
 @Service
@@ -30,7 +32,6 @@ public class AuthTokenService {
     /**
      * Gera tokens de acesso e refresh para um usuário
      */
-    @Transactional(readOnly = true, timeout = TransactionConstants.AUTH_TIMEOUT)
     public TokenPair generateTokens(User user) {
         log.debug("Generating tokens for user: {}", user.getUsername());
 
@@ -41,21 +42,26 @@ public class AuthTokenService {
     }
 
     /**
-     * Valida um token JWT
+     * Verifica um token JWT (assinatura, expiração e revogação) uma única vez
      */
-    @Transactional(readOnly = true, timeout = TransactionConstants.AUTH_TIMEOUT)
-    public boolean validateToken(String token) {
+    public Optional<VerifiedToken> verifyToken(String token) {
         String jwt = extractBearerToken(token);
         if (jwt == null) {
-            return false;
+            return Optional.empty();
         }
-        return Boolean.TRUE.equals(jwtUtil.validateToken(jwt));
+        return jwtUtil.verify(jwt);
+    }
+
+    /**
+     * Valida um token JWT
+     */
+    public boolean validateToken(String token) {
+        return verifyToken(token).isPresent();
     }
 
     /**
      * Invalida um token JWT
      */
-    @Transactional(timeout = TransactionConstants.AUTH_TIMEOUT)
     public void invalidateToken(String token) {
         String jwt = extractBearerToken(token);
         if (jwt != null) {
@@ -64,22 +70,24 @@ public class AuthTokenService {
         }
     }
 
+    /**
+     * Invalida um token JWT já verificado, sem novo parse
+     */
+    public void invalidateToken(VerifiedToken token) {
+        jwtUtil.invalidateToken(token);
+        log.debug("Token invalidated successfully");
+    }
+
     /**
      * Extrai username de um token JWT
      */
-    @Transactional(readOnly = true, timeout = TransactionConstants.AUTH_TIMEOUT)
     public String extractUsername(String token) {
-        String jwt = extractBearerToken(token);
-        if (jwt == null) {
-            return null;
-        }
-        return jwtUtil.extractUsername(jwt);
+        return verifyToken(token).map(VerifiedToken::subject).orElse(null);
     }
 
     /**
      * Cria um AuthResponse padronizado para o usuário
      */
-    @Transactional(readOnly = true, timeout = TransactionConstants.AUTH_TIMEOUT)
     public AuthResponse createAuthResponse(User user, String accessToken) {
         return new AuthResponse(
                 accessToken,
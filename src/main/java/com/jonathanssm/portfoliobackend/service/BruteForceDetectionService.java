@@ -0,0 +1,105 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.constants.DefaultConstants;
+import com.jonathanssm.portfoliobackend.messaging.AuthProducer;
+import com.jonathanssm.portfoliobackend.util.CountMinSketch;
+import com.jonathanssm.portfoliobackend.util.HashUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service responsável por detectar força bruta a partir do stream de eventos de autenticação
+ * <p>
+ * Falhas são agregadas por IP e por username em count-min sketches de memória fixa, em janelas
+ * fixas (tumbling). Ao cruzar o limite na janela, a chave é considerada heavy hitter e um bloqueio
+ * é publicado no tópico de auth, aplicado por todas as réplicas no RateLimitingService.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BruteForceDetectionService {
+
+    private static final int SKETCH_DEPTH = 4;
+
+    private final AuthProducer authProducer;
+    private final RateLimitingService rateLimitingService;
+
+    @Value("${brute-force.window-ms:300000}") // 5 minutos
+    private long windowMillis;
+
+    @Value("${brute-force.sketch-width:16384}")
+    private int sketchWidth;
+
+    @Value("${brute-force.ip-threshold:100}")
+    private int ipThreshold;
+
+    @Value("${brute-force.user-threshold:50}")
+    private int userThreshold;
+
+    @Value("${brute-force.block-duration-ms:900000}") // 15 minutos
+    private long blockDurationMillis;
+
+    private CountMinSketch ipFailures;
+    private CountMinSketch userFailures;
+    private long currentWindow;
+
+    @PostConstruct
+    void init() {
+        this.ipFailures = new CountMinSketch(sketchWidth, SKETCH_DEPTH);
+        this.userFailures = new CountMinSketch(sketchWidth, SKETCH_DEPTH);
+    }
+
+    /**
+     * Registra uma falha de autenticação (login ou token inválido)
+     *
+     * @param username Username tentado (null quando não se aplica)
+     * @param ipAddress IP de origem
+     */
+    public synchronized void recordFailure(String username, String ipAddress) {
+        long now = System.currentTimeMillis();
+        rollWindow(now);
+
+        if (isKnown(ipAddress)) {
+            detect(RateLimitingService.KeyType.IP, ipAddress, ipFailures, ipThreshold, now);
+        }
+        if (isKnown(username)) {
+            detect(RateLimitingService.KeyType.USER, username, userFailures, userThreshold, now);
+        }
+    }
+
+    /**
+     * Colisões podem fazer a estimativa saltar o limite, então compara com >=; chaves já
+     * bloqueadas são ignoradas para que o bloqueio seja publicado uma única vez
+     */
+    private void detect(RateLimitingService.KeyType keyType, String value, CountMinSketch failures,
+                        int threshold, long now) {
+        if (failures.add(HashUtils.hash64(value)) >= threshold
+                && rateLimitingService.getBlockRemainingMillis(keyType, value) == 0) {
+            block(keyType, value, now);
+        }
+    }
+
+    private void block(RateLimitingService.KeyType keyType, String value, long now) {
+        long blockedUntil = now + blockDurationMillis;
+        // Aplicado localmente já, sem esperar o evento voltar do tópico (o merge lá é idempotente)
+        rateLimitingService.block(keyType, value, blockedUntil);
+        log.error("🛑 [SECURITY] Brute force detected - {}: {} blocked until {}", keyType, value, blockedUntil);
+        authProducer.sendClientBlocked(keyType.name(), value, blockedUntil, "Brute force detected");
+    }
+
+    private void rollWindow(long now) {
+        long window = now / windowMillis;
+        if (window != currentWindow) {
+            ipFailures.clear();
+            userFailures.clear();
+            currentWindow = window;
+        }
+    }
+
+    private static boolean isKnown(String value) {
+        return value != null && !value.isEmpty() && !DefaultConstants.UNKNOWN.equals(value);
+    }
+}
@@ -0,0 +1,225 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.metamodel.mapping.CompositeIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityAssociationMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service responsável pela auditoria (Envers) de escritas em lote
+ * SRP: única responsabilidade - gravar as linhas de auditoria que o Envers gravaria por entidade
+ * <p>
+ * DELETEs em lote não passam pelo Envers. As tabelas e colunas de auditoria são obtidas do
+ * metamodelo que o próprio Envers registra (entidades *_AUD), então schema, nomes e campos novos
+ * acompanham o mapeamento. As linhas entram na revisão da transação.
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkAuditService {
+
+    private static final String DEFAULT_AUDIT_SUFFIX = "_AUD";
+    private static final String DEFAULT_REVISION_FIELD = "REV";
+    private static final String DEFAULT_REVISION_TYPE_FIELD = "REVTYPE";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Revisão das escritas em lote da transação corrente, criada na primeira chamada
+     * <p>
+     * O Envers só cria a revisão dele no commit, depois dos DELETEs em lote; por isso a revisão é
+     * criada aqui e guardada em uma TransactionSynchronization (descartada no fim da transação e
+     * suspensa junto com ela). Se a mesma transação também alterar entidades auditadas, essas
+     * alterações ficam na revisão do Envers, separada desta.
+     */
+    public int currentRevision() {
+        RevisionHolder holder = currentRevisionHolder();
+        if (holder == null) {
+            DefaultRevisionEntity revision = new DefaultRevisionEntity();
+            revision.setTimestamp(System.currentTimeMillis());
+            entityManager.persist(revision);
+            entityManager.flush();
+            holder = new RevisionHolder(revision.getId());
+            TransactionSynchronizationManager.registerSynchronization(holder);
+        }
+        return holder.revision();
+    }
+
+    /**
+     * Linhas DEL das entidades (apenas o id, como o Envers sem store_data_at_delete); chamar antes do DELETE
+     */
+    public int auditDeletes(Class<?> entityClass, Collection<?> ids, int revision) {
+        EntityMappingType entity = entityDescriptor(entityClass.getName());
+        AuditTable audit = auditTable(auditEntityName(entityClass.getName()));
+        List<String> idColumns = columns(entity.getIdentifierMapping());
+
+        String sql = "INSERT INTO " + audit.table() + " (" + audit.revisionColumn() + ", " + audit.revisionTypeColumn()
+                + ", " + String.join(", ", idColumns) + ")"
+                + " SELECT :rev, " + RevisionType.DEL.getRepresentation() + ", " + String.join(", ", idColumns)
+                + " FROM " + table(entity.getIdentifierMapping()) + " WHERE " + singleColumn(idColumns) + " IN (:ids)";
+        return execute(sql, ids, revision);
+    }
+
+    /**
+     * Linhas DEL das associações da coleção (tabela de junção) dos donos informados; chamar antes do DELETE
+     */
+    public int auditCollectionDeletes(Class<?> ownerClass, String collection, Collection<?> ownerIds, int revision) {
+        PluralAttributeMapping association = collection(ownerClass, collection);
+        String joinTable = table(association.getKeyDescriptor().getKeyPart());
+        AuditTable audit = auditTable(auditEntityName(unqualified(joinTable)));
+        List<String> keyColumns = columns(association.getKeyDescriptor().getKeyPart());
+        List<String> linkColumns = new ArrayList<>(keyColumns);
+        linkColumns.addAll(columns(association.getElementDescriptor()));
+
+        String sql = "INSERT INTO " + audit.table() + " (" + audit.revisionColumn() + ", " + audit.revisionTypeColumn()
+                + ", " + String.join(", ", linkColumns) + ")"
+                + " SELECT :rev, " + RevisionType.DEL.getRepresentation() + ", " + String.join(", ", linkColumns)
+                + " FROM " + joinTable + " WHERE " + singleColumn(keyColumns) + " IN (:ids)";
+        return execute(sql, ownerIds, revision);
+    }
+
+    /**
+     * Linhas MOD (estado atual completo) das entidades associadas aos donos informados: é o que o
+     * Envers grava para o lado inverso auditado (mappedBy) quando a associação muda
+     */
+    public int auditCollectionElementChanges(Class<?> ownerClass, String collection, Collection<?> ownerIds,
+                                             int revision) {
+        PluralAttributeMapping association = collection(ownerClass, collection);
+        if (!(association.getElementDescriptor() instanceof EntityAssociationMapping element)) {
+            throw new IllegalArgumentException(ownerClass.getSimpleName() + "." + collection + " is not an entity association");
+        }
+        EntityMappingType target = element.getAssociatedEntityMappingType();
+        AuditTable audit = auditTable(auditEntityName(target.getEntityName()));
+        List<String> idColumns = columns(target.getIdentifierMapping());
+
+        // Colunas de auditoria têm os mesmos nomes das colunas da entidade
+        Set<String> sourceColumns = new HashSet<>(columns(target));
+        for (String column : audit.dataColumns()) {
+            if (!sourceColumns.contains(column)) {
+                throw new IllegalStateException("Audit column " + column + " of " + audit.table() + " has no source column");
+            }
+        }
+        List<String> snapshotColumns = new ArrayList<>(idColumns);
+        snapshotColumns.addAll(audit.dataColumns());
+
+        // Uma linha por entidade e revisão: entidades já auditadas nesta revisão ficam de fora
+        String idColumn = singleColumn(idColumns);
+        String sql = "INSERT INTO " + audit.table() + " (" + audit.revisionColumn() + ", " + audit.revisionTypeColumn()
+                + ", " + String.join(", ", snapshotColumns) + ")"
+                + " SELECT :rev, " + RevisionType.MOD.getRepresentation() + ", " + String.join(", ", snapshotColumns)
+                + " FROM " + table(target.getIdentifierMapping()) + " e"
+                + " WHERE e." + idColumn + " IN (SELECT " + singleColumn(columns(association.getElementDescriptor()))
+                + " FROM " + table(association.getKeyDescriptor().getKeyPart())
+                + " WHERE " + singleColumn(columns(association.getKeyDescriptor().getKeyPart())) + " IN (:ids))"
+                + " AND NOT EXISTS (SELECT 1 FROM " + audit.table() + " a"
+                + " WHERE a." + idColumn + " = e." + idColumn + " AND a." + audit.revisionColumn() + " = :rev)";
+        return execute(sql, ownerIds, revision);
+    }
+
+    private record RevisionHolder(int revision) implements TransactionSynchronization {
+    }
+
+    private static RevisionHolder currentRevisionHolder() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Bulk audit requires an active transaction");
+        }
+        return TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(RevisionHolder.class::isInstance)
+                .map(RevisionHolder.class::cast)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Tabela *_AUD: coluna da revisão (na chave), coluna do tipo de revisão e demais colunas
+     */
+    private record AuditTable(String table, String revisionColumn, String revisionTypeColumn, List<String> dataColumns) {
+    }
+
+    private AuditTable auditTable(String auditEntityName) {
+        EntityMappingType audit = entityDescriptor(auditEntityName);
+        if (!(audit.getIdentifierMapping() instanceof CompositeIdentifierMapping id)) {
+            throw new IllegalStateException(auditEntityName + " is not an Envers audit entity");
+        }
+        ModelPart revisionType = audit.findAttributeMapping(setting(EnversSettings.REVISION_TYPE_FIELD_NAME, DEFAULT_REVISION_TYPE_FIELD));
+        String revisionTypeColumn = singleColumn(columns(revisionType));
+        String revisionColumn = singleColumn(columns(id.getPartMappingType()
+                .findAttributeMapping(setting(EnversSettings.REVISION_FIELD_NAME, DEFAULT_REVISION_FIELD))));
+
+        List<String> dataColumns = columns(audit);
+        dataColumns.remove(revisionTypeColumn);
+        return new AuditTable(table(revisionType), revisionColumn, revisionTypeColumn, dataColumns);
+    }
+
+    private int execute(String sql, Collection<?> ids, int revision) {
+        return entityManager.createNativeQuery(sql)
+                .setParameter("rev", revision)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    private PluralAttributeMapping collection(Class<?> ownerClass, String collection) {
+        if (!(entityDescriptor(ownerClass.getName()).findAttributeMapping(collection) instanceof PluralAttributeMapping association)) {
+            throw new IllegalArgumentException(ownerClass.getSimpleName() + "." + collection + " is not a collection");
+        }
+        return association;
+    }
+
+    private EntityMappingType entityDescriptor(String entityName) {
+        return sessionFactory().getMappingMetamodel().getEntityDescriptor(entityName);
+    }
+
+    private String auditEntityName(String entityName) {
+        return setting(EnversSettings.AUDIT_TABLE_PREFIX, "") + entityName
+                + setting(EnversSettings.AUDIT_TABLE_SUFFIX, DEFAULT_AUDIT_SUFFIX);
+    }
+
+    private String setting(String name, String defaultValue) {
+        Map<String, Object> properties = sessionFactory().getProperties();
+        Object value = properties.get(name);
+        return value != null ? value.toString() : defaultValue;
+    }
+
+    private SessionFactoryImplementor sessionFactory() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+    }
+
+    private static List<String> columns(ModelPart part) {
+        List<String> columns = new ArrayList<>();
+        part.forEachSelectable((index, selectable) -> columns.add(selectable.getSelectionExpression()));
+        return columns;
+    }
+
+    private static String table(ModelPart part) {
+        List<String> tables = new ArrayList<>();
+        part.forEachSelectable((index, selectable) -> tables.add(selectable.getContainingTableExpression()));
+        return tables.get(0);
+    }
+
+    private static String singleColumn(List<String> columns) {
+        if (columns.size() != 1) {
+            throw new IllegalStateException("Composite keys are not supported in bulk audit: " + columns);
+        }
+        return columns.get(0);
+    }
+
+    private static String unqualified(String table) {
+        return table.substring(table.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,419 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.dto.ExperienceFilter;
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.model.event.ExperienceChangedEvent;
+import com.jonathanssm.portfoliobackend.model.event.ExperiencesChangedEvent;
+import com.jonathanssm.portfoliobackend.model.event.TechnologyCatalogChangedEvent;
+import com.jonathanssm.portfoliobackend.util.CompressedBitmap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Service responsável pelo índice invertido em memória para filtros de experiências
+ * SRP: única responsabilidade - resolver filtros (tecnologia, tipo, atual, período) sem SQL
+ * <p>
+ * Tecnologia e tipo de tecnologia apontam para CompressedBitmaps de ids de experiência; a flag
+ * current tem um bitmap por valor; startDate fica em um array ordenado de chaves (dia, id) para
+ * buscas por faixa. Filtros combinados viram interseções de bitmaps, da menor para a maior.
+ * <p>
+ * Construído na primeira consulta e atualizado incrementalmente após cada escrita commitada,
+ * local ou de outra réplica (ExperienceBroadcastConsumer). Ids de experiência precisam caber em int (valores de bitmap).
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExperienceFilterIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ExperienceQueryService experienceQueryService;
+
+    /**
+     * Dados indexados de uma experiência, guardados para removê-la dos índices
+     */
+    private record Entry(long startKey, boolean current, long[] technologyIds, String[] technologyTypes) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object updateMonitor = new Object();
+
+    // Protegidos por lock
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<Long, CompressedBitmap> byTechnology = new HashMap<>();
+    private final Map<String, CompressedBitmap> byTechnologyType = new HashMap<>();
+    private CompressedBitmap currentExperiences = new CompressedBitmap();
+    private CompressedBitmap pastExperiences = new CompressedBitmap();
+    // Chaves (startDate em epoch day << 32 | id), ordenadas: faixa de datas = faixa contígua
+    private long[] startKeys = new long[INITIAL_CAPACITY];
+    private int startKeyCount;
+    private boolean built;
+    // Incrementado a cada invalidação: construções que leram dados antes dela são descartadas
+    private long generation;
+
+    /**
+     * Ids das experiências que atendem ao filtro, ordenados por startDate DESC, id DESC
+     */
+    public List<Long> findIds(ExperienceFilter filter) {
+        ensureBuilt();
+
+        lock.readLock().lock();
+        try {
+            CompressedBitmap matches = resolve(filter);
+            return matches != null ? sortByStartDateDesc(matches) : allIdsByStartDateDesc(filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica a escrita commitada apenas à experiência alterada
+     * (fora de transação: escrita de outra réplica, recebida via ExperienceBroadcastConsumer)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExperienceChanged(ExperienceChangedEvent event) {
+        // Leitura + aplicação serializadas: a última atualização sempre reflete o estado mais recente
+        synchronized (updateMonitor) {
+            if (!isBuilt()) {
+                return;
+            }
+            try {
+                List<ExperienceResponse> experiences = experienceQueryService.findAllByIds(List.of(event.experienceId()));
+                lock.writeLock().lock();
+                try {
+                    unindex(Math.toIntExact(event.experienceId()));
+                    experiences.forEach(this::index);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.debug("♻️ Experience {} reindexed", event.experienceId());
+            } catch (RuntimeException e) {
+                // Nunca filtrar sobre dados antigos: a próxima consulta reconstrói o índice
+                invalidate();
+                log.error("❌ Failed to update experience filter index: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Operação em lote: reconstruir na próxima consulta sai mais barato que reindexar uma a uma
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExperiencesChanged(ExperiencesChangedEvent event) {
+        log.debug("♻️ {} experiences changed, invalidating experience filter index", event.experienceIds().size());
+        invalidate();
+    }
+
+    /**
+     * Tipos de tecnologia podem ter mudado: reconstrói na próxima consulta
+     */
+    @EventListener
+    public void onTechnologyCatalogChanged(TechnologyCatalogChangedEvent event) {
+        log.debug("♻️ Technology catalog changed, invalidating experience filter index");
+        invalidate();
+    }
+
+    public int getIndexedCount() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Memória aproximada dos bitmaps e do array de datas, em bytes
+     */
+    public long getSizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = currentExperiences.getSizeInBytes() + pastExperiences.getSizeInBytes()
+                    + startKeys.length * (long) Long.BYTES;
+            for (CompressedBitmap bitmap : byTechnology.values()) {
+                bytes += bitmap.getSizeInBytes();
+            }
+            for (CompressedBitmap bitmap : byTechnologyType.values()) {
+                bytes += bitmap.getSizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Interseção dos critérios informados; null quando nenhum critério além do período foi dado
+     */
+    private CompressedBitmap resolve(ExperienceFilter filter) {
+        List<CompressedBitmap> bitmaps = new ArrayList<>();
+        if (filter.technologyIds() != null) {
+            for (Long technologyId : filter.technologyIds()) {
+                bitmaps.add(byTechnology.getOrDefault(technologyId, new CompressedBitmap()));
+            }
+        }
+        if (filter.technologyTypes() != null) {
+            for (String type : filter.technologyTypes()) {
+                bitmaps.add(byTechnologyType.getOrDefault(normalizeType(type), new CompressedBitmap()));
+            }
+        }
+        if (filter.current() != null) {
+            bitmaps.add(filter.current() ? currentExperiences : pastExperiences);
+        }
+        if (bitmaps.isEmpty()) {
+            return null;
+        }
+
+        // Menor primeiro: cada interseção só pode encolher o resultado
+        bitmaps.sort(Comparator.comparingInt(CompressedBitmap::cardinality));
+        CompressedBitmap result = bitmaps.get(0);
+        for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+            result = result.and(bitmaps.get(i));
+        }
+
+        if ((filter.startFrom() != null || filter.startTo() != null) && !result.isEmpty()) {
+            result = restrictToRange(result, startKeyOf(filter.startFrom(), true), startKeyOf(filter.startTo(), false));
+        }
+        return result;
+    }
+
+    /**
+     * Poucos candidatos: confere a data de cada um; faixa pequena: bitmap da faixa e interseção
+     *
+     * @param lowKey  Menor chave aceita
+     * @param highKey Primeira chave fora da faixa
+     */
+    private CompressedBitmap restrictToRange(CompressedBitmap candidates, long lowKey, long highKey) {
+        int from = lowerBound(lowKey);
+        int to = lowerBound(highKey);
+        if (candidates.cardinality() < to - from) {
+            CompressedBitmap result = new CompressedBitmap();
+            candidates.forEach(id -> {
+                long startKey = entries.get(id).startKey();
+                if (startKey >= lowKey && startKey < highKey) {
+                    result.add(id);
+                }
+            });
+            return result;
+        }
+        CompressedBitmap range = new CompressedBitmap();
+        for (int i = from; i < to; i++) {
+            range.add(idOf(startKeys[i]));
+        }
+        return candidates.and(range);
+    }
+
+    private List<Long> sortByStartDateDesc(CompressedBitmap matches) {
+        int[] ids = matches.toArray();
+        long[] keys = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            keys[i] = entries.get(ids[i]).startKey();
+        }
+        Arrays.sort(keys);
+        return descendingIds(keys, 0, keys.length);
+    }
+
+    /**
+     * Sem bitmaps envolvidos: a faixa do array ordenado já é o resultado, na ordem certa
+     */
+    private List<Long> allIdsByStartDateDesc(ExperienceFilter filter) {
+        int from = lowerBound(startKeyOf(filter.startFrom(), true));
+        int to = lowerBound(startKeyOf(filter.startTo(), false));
+        return descendingIds(startKeys, from, to);
+    }
+
+    private static List<Long> descendingIds(long[] keys, int from, int to) {
+        List<Long> ids = new ArrayList<>(Math.max(0, to - from));
+        for (int i = to - 1; i >= from; i--) {
+            ids.add((long) idOf(keys[i]));
+        }
+        return ids;
+    }
+
+    private void ensureBuilt() {
+        if (isBuilt()) {
+            return;
+        }
+        synchronized (updateMonitor) {
+            if (isBuilt()) {
+                return;
+            }
+            long start = System.nanoTime();
+            List<ExperienceResponse> experiences;
+            do {
+                // Catálogo recarregado durante a leitura (invalidação): lê novamente
+                long startGeneration = currentGeneration();
+                experiences = experienceQueryService.findAll();
+                lock.writeLock().lock();
+                try {
+                    if (generation == startGeneration) {
+                        clear();
+                        experiences.forEach(this::index);
+                        built = true;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } while (!isBuilt());
+            log.info("🗂️ Experience filter index built with {} experiences in {} ms",
+                    experiences.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private boolean isBuilt() {
+        lock.readLock().lock();
+        try {
+            return built;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long currentGeneration() {
+        lock.readLock().lock();
+        try {
+            return generation;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void invalidate() {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clear() {
+        entries.clear();
+        byTechnology.clear();
+        byTechnologyType.clear();
+        currentExperiences = new CompressedBitmap();
+        pastExperiences = new CompressedBitmap();
+        startKeys = new long[INITIAL_CAPACITY];
+        startKeyCount = 0;
+        built = false;
+    }
+
+    private void index(ExperienceResponse experience) {
+        int id = Math.toIntExact(experience.id());
+        long[] technologyIds = experience.technologies().stream()
+                .mapToLong(ExperienceResponse.TechnologyResponse::id)
+                .toArray();
+        String[] technologyTypes = experience.technologies().stream()
+                .map(ExperienceResponse.TechnologyResponse::type)
+                .filter(Objects::nonNull)
+                .map(ExperienceFilterIndex::normalizeType)
+                .distinct()
+                .toArray(String[]::new);
+        Entry entry = new Entry(startKey(experience.startDate().toEpochDay(), id), experience.current(),
+                technologyIds, technologyTypes);
+
+        entries.put(id, entry);
+        for (long technologyId : technologyIds) {
+            byTechnology.computeIfAbsent(technologyId, key -> new CompressedBitmap()).add(id);
+        }
+        for (String type : technologyTypes) {
+            byTechnologyType.computeIfAbsent(type, key -> new CompressedBitmap()).add(id);
+        }
+        (entry.current() ? currentExperiences : pastExperiences).add(id);
+        insertStartKey(entry.startKey());
+    }
+
+    private void unindex(int id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (long technologyId : entry.technologyIds()) {
+            removeFrom(byTechnology, technologyId, id);
+        }
+        for (String type : entry.technologyTypes()) {
+            removeFrom(byTechnologyType, type, id);
+        }
+        (entry.current() ? currentExperiences : pastExperiences).remove(id);
+        removeStartKey(entry.startKey());
+    }
+
+    private static <K> void removeFrom(Map<K, CompressedBitmap> index, K key, int id) {
+        CompressedBitmap bitmap = index.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private void insertStartKey(long startKey) {
+        int index = Arrays.binarySearch(startKeys, 0, startKeyCount, startKey);
+        if (index >= 0) {
+            return;
+        }
+        index = -index - 1;
+        if (startKeyCount == startKeys.length) {
+            startKeys = Arrays.copyOf(startKeys, startKeyCount * 2);
+        }
+        System.arraycopy(startKeys, index, startKeys, index + 1, startKeyCount - index);
+        startKeys[index] = startKey;
+        startKeyCount++;
+    }
+
+    private void removeStartKey(long startKey) {
+        int index = Arrays.binarySearch(startKeys, 0, startKeyCount, startKey);
+        if (index >= 0) {
+            System.arraycopy(startKeys, index + 1, startKeys, index, startKeyCount - index - 1);
+            startKeyCount--;
+        }
+    }
+
+    /**
+     * Primeira posição com chave >= key
+     */
+    private int lowerBound(long key) {
+        int index = Arrays.binarySearch(startKeys, 0, startKeyCount, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Limite da faixa: início do dia "from", ou início do dia seguinte a "to" (exclusivo)
+     */
+    private static long startKeyOf(LocalDate date, boolean lower) {
+        if (date == null) {
+            return lower ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return (lower ? date.toEpochDay() : date.toEpochDay() + 1) << 32;
+    }
+
+    private static long startKey(long epochDay, int id) {
+        return epochDay << 32 | id;
+    }
+
+    private static int idOf(long startKey) {
+        return (int) startKey;
+    }
+
+    private static String normalizeType(String type) {
+        return type.trim().toLowerCase(Locale.ROOT);
+    }
+}
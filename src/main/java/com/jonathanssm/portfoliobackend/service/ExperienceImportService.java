@@ -0,0 +1,172 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jonathanssm.portfoliobackend.dto.ExperienceImportResponse;
+import com.jonathanssm.portfoliobackend.dto.ExperienceRequest;
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.dto.mapper.ExperienceMapper;
+import com.jonathanssm.portfoliobackend.messaging.EventFactory;
+import com.jonathanssm.portfoliobackend.messaging.ExperienceProducer;
+import com.jonathanssm.portfoliobackend.model.Experience;
+import com.jonathanssm.portfoliobackend.model.Technology;
+import com.jonathanssm.portfoliobackend.model.event.ExperiencesChangedEvent;
+import com.jonathanssm.portfoliobackend.repository.TechnologyRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service responsável pela importação em lote de experiências
+ * SRP: única responsabilidade - criar muitas experiências em uma única transação
+ * <p>
+ * O corpo (array JSON ou NDJSON) é lido item a item e validado durante a leitura, sem
+ * materializar a lista. As entidades são persistidas em lotes JDBC (ids pooled, sem round trip
+ * por linha) e o contexto de persistência é esvaziado a cada lote. Tudo ou nada: qualquer item
+ * inválido desfaz a importação. No commit sai um único evento de resumo, não um por linha.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExperienceImportService {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ExperienceMapper experienceMapper;
+    private final TechnologyCatalog technologyCatalog;
+    private final TechnologyRepository technologyRepository;
+    private final ExperienceProducer experienceProducer;
+    private final MetricsService metricsService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${experience-import.max-items:10000}")
+    private int maxItems;
+
+    @Value("${experience-import.max-errors:20}")
+    private int maxErrors;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}")
+    private int batchSize;
+
+    /**
+     * Importa as experiências do stream (array JSON ou um objeto por linha)
+     *
+     * @throws IllegalArgumentException se o corpo for inválido, exceder o limite de itens ou
+     *                                  algum item falhar na validação (nada é gravado)
+     */
+    @Transactional
+    public ExperienceImportResponse importExperiences(InputStream inputStream) {
+        log.info("📥 Importing experiences");
+
+        List<Long> ids = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        // Tecnologias resolvidas uma vez por importação: id → referência (null = inexistente)
+        Map<Long, Technology> technologies = new HashMap<>();
+
+        int index = 0;
+        try (MappingIterator<ExperienceRequest> items = objectMapper.readerFor(ExperienceRequest.class).readValues(inputStream)) {
+            while (errors.size() < maxErrors && items.hasNextValue()) {
+                if (index >= maxItems) {
+                    throw new IllegalArgumentException("Import exceeds the maximum of " + maxItems + " experiences");
+                }
+                ExperienceRequest request = items.nextValue();
+                if (request == null) {
+                    errors.add("[" + index + "]: experience is null");
+                    index++;
+                    continue;
+                }
+                Set<Technology> references = resolveTechnologies(request, technologies, index, errors);
+                validate(request, index, errors);
+
+                // Com erros nada será gravado: apenas segue validando para reportá-los juntos
+                if (errors.isEmpty()) {
+                    ids.add(persist(request, references));
+                    if (ids.size() % batchSize == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+                index++;
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON at item [" + index + "]: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Invalid experiences: " + String.join("; ", errors));
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("No experiences to import");
+        }
+
+        entityManager.flush();
+        applicationEventPublisher.publishEvent(new ExperiencesChangedEvent(List.copyOf(ids)));
+        experienceProducer.sendExperiencesImported(EventFactory.createExperienceImportPayload(ids));
+        metricsService.recordExperienceImport(ids.size());
+        metricsService.recordKafkaEventPublished();
+
+        log.info("✅ Imported {} experiences", ids.size());
+        return new ExperienceImportResponse(ids.size(), ids);
+    }
+
+    private void validate(ExperienceRequest request, int index, List<String> errors) {
+        for (ConstraintViolation<ExperienceRequest> violation : validator.validate(request)) {
+            errors.add("[" + index + "]." + violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+    }
+
+    /**
+     * Ids validados no catálogo viram referências (proxies), sem SELECT; ids inexistentes são erro
+     */
+    private Set<Technology> resolveTechnologies(ExperienceRequest request, Map<Long, Technology> technologies,
+                                                int index, List<String> errors) {
+        Set<Technology> references = new HashSet<>();
+        if (request.technologyIds() == null) {
+            return references;
+        }
+        for (Long technologyId : request.technologyIds()) {
+            if (technologyId != null && !technologies.containsKey(technologyId)) {
+                technologies.put(technologyId, technologyReference(technologyId));
+            }
+            Technology technology = technologyId != null ? technologies.get(technologyId) : null;
+            if (technology == null) {
+                errors.add("[" + index + "].technologyIds: unknown technology " + technologyId);
+            } else {
+                references.add(technology);
+            }
+        }
+        return references;
+    }
+
+    private Technology technologyReference(Long technologyId) {
+        List<ExperienceResponse.TechnologyResponse> found = technologyCatalog.findAllById(List.of(technologyId));
+        return found.isEmpty() ? null : technologyRepository.getReferenceById(technologyId);
+    }
+
+    private Long persist(ExperienceRequest request, Set<Technology> technologies) {
+        Experience experience = experienceMapper.toEntity(request);
+        experience.setTechnologies(technologies);
+        entityManager.persist(experience);
+        return experience.getId();
+    }
+}
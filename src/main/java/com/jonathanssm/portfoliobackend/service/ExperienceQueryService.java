@@ -0,0 +1,113 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.dto.projection.ExperienceRow;
+import com.jonathanssm.portfoliobackend.dto.projection.ExperienceTechnologyRow;
+import com.jonathanssm.portfoliobackend.repository.ExperienceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service responsável pelas leituras de experiências via projeções
+ * SRP: única responsabilidade - montar ExperienceResponse direto das consultas
+ * <p>
+ * Duas consultas com constructor expressions (experiências e pares experiência/tecnologia): nenhuma
+ * entidade é hidratada, o contexto de persistência fica vazio e listeners de auditoria/Envers
+ * não participam. Os dados das tecnologias vêm do TechnologyCatalog, sem join com tecnologias/tipos.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExperienceQueryService {
+
+    private final ExperienceRepository experienceRepository;
+    private final TechnologyCatalog technologyCatalog;
+
+    /**
+     * Todas as experiências, ordenadas por startDate DESC, id DESC
+     */
+    public List<ExperienceResponse> findAll() {
+        List<ExperienceRow> rows = experienceRepository.findAllRows();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        return assemble(rows, experienceRepository.findAllTechnologyRows());
+    }
+
+    /**
+     * Experiências dos ids informados, na mesma ordem dos ids
+     */
+    public List<ExperienceResponse> findAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ExperienceRow> rowsById = new HashMap<>(ids.size() * 2);
+        experienceRepository.findRowsByIdIn(ids).forEach(row -> rowsById.put(row.id(), row));
+
+        List<ExperienceRow> orderedRows = ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return assemble(orderedRows, experienceRepository.findTechnologyRowsByExperienceIdIn(ids));
+    }
+
+    /**
+     * Percorre todas as experiências em lotes, com memória constante
+     * <p>
+     * As linhas vêm de um cursor JDBC (fetch size); as tecnologias são buscadas por lote de ids.
+     * Projeções não entram no contexto de persistência, então nada acumula durante a leitura.
+     *
+     * @return Quantidade de experiências entregues
+     */
+    public long forEachExperience(Consumer<ExperienceResponse> consumer) {
+        long count = 0;
+        List<ExperienceRow> batch = new ArrayList<>(ExperienceRepository.EXPORT_FETCH_SIZE);
+        try (Stream<ExperienceRow> rows = experienceRepository.streamAllRows()) {
+            Iterator<ExperienceRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == ExperienceRepository.EXPORT_FETCH_SIZE || !iterator.hasNext()) {
+                    List<Long> ids = batch.stream().map(ExperienceRow::id).toList();
+                    assemble(batch, experienceRepository.findTechnologyRowsByExperienceIdIn(ids)).forEach(consumer);
+                    count += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    private List<ExperienceResponse> assemble(List<ExperienceRow> rows, Collection<ExperienceTechnologyRow> technologyRows) {
+        Map<Long, List<Long>> technologyIdsByExperience = new HashMap<>(rows.size() * 2);
+        for (ExperienceTechnologyRow technologyRow : technologyRows) {
+            technologyIdsByExperience.computeIfAbsent(technologyRow.experienceId(), id -> new ArrayList<>())
+                    .add(technologyRow.technologyId());
+        }
+
+        // Catálogo devolve as tecnologias ordenadas por nome: LinkedHashSet mantém a serialização estável
+        return rows.stream()
+                .map(row -> row.toResponse(technologiesOf(technologyIdsByExperience.get(row.id()))))
+                .toList();
+    }
+
+    private Set<ExperienceResponse.TechnologyResponse> technologiesOf(List<Long> technologyIds) {
+        if (technologyIds == null) {
+            return Collections.emptySet();
+        }
+        return new LinkedHashSet<>(technologyCatalog.findAllById(technologyIds));
+    }
+}
@@ -0,0 +1,139 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.messaging.EventFactory;
+import com.jonathanssm.portfoliobackend.messaging.ExperienceProducer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service responsável por acumular a telemetria de leitura de experiências
+ * SRP: única responsabilidade - agregar leituras e publicá-las periodicamente
+ * <p>
+ * Leituras apenas incrementam contadores LongAdder (striped, sem contenção). Um job agendado
+ * publica um único evento agregado por intervalo (por nó e endpoint, com histograma de ids),
+ * tirando qualquer interação com o broker do caminho de leitura.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExperienceReadTelemetry {
+
+    // Limite de ids distintos no histograma; excedentes são somados em untrackedIdReads
+    private static final int MAX_TRACKED_IDS = 1024;
+
+    /**
+     * Endpoints de leitura monitorados
+     */
+    public enum ReadEndpoint {
+        LIST, PAGE, BY_ID, EXPORT, SEARCH, FILTER
+    }
+
+    private record Counters(LongAdder requests, LongAdder items) {
+
+        Counters() {
+            this(new LongAdder(), new LongAdder());
+        }
+    }
+
+    private final ExperienceProducer experienceProducer;
+    private final MetricsService metricsService;
+
+    @Value("${telemetry.node-id:${HOSTNAME:unknown}}")
+    private String nodeId;
+
+    private final Map<ReadEndpoint, Counters> counters = createCounters();
+    private final Map<Long, LongAdder> idReads = new ConcurrentHashMap<>();
+    private final LongAdder untrackedIdReads = new LongAdder();
+    private volatile long intervalStart = System.currentTimeMillis();
+
+    /**
+     * Registra uma leitura do endpoint com a quantidade de experiências entregues
+     */
+    public void record(ReadEndpoint endpoint, long items) {
+        Counters endpointCounters = counters.get(endpoint);
+        endpointCounters.requests().increment();
+        endpointCounters.items().add(items);
+    }
+
+    /**
+     * Registra a leitura de uma experiência específica
+     */
+    public void recordById(Long id) {
+        record(ReadEndpoint.BY_ID, 1);
+
+        LongAdder reads = idReads.get(id);
+        if (reads == null && idReads.size() < MAX_TRACKED_IDS) {
+            reads = idReads.computeIfAbsent(id, key -> new LongAdder());
+        }
+        if (reads != null) {
+            reads.increment();
+        } else {
+            untrackedIdReads.increment();
+        }
+    }
+
+    /**
+     * Publica o agregado do intervalo (nada é enviado se não houve leituras)
+     */
+    @Scheduled(fixedDelayString = "${telemetry.experience-reads.flush-interval-ms:60000}",
+            initialDelayString = "${telemetry.experience-reads.flush-interval-ms:60000}")
+    public void flush() {
+        long start = intervalStart;
+        long end = System.currentTimeMillis();
+        intervalStart = end;
+
+        Map<String, Map<String, Long>> endpoints = new LinkedHashMap<>();
+        long totalRequests = 0;
+        for (Map.Entry<ReadEndpoint, Counters> entry : counters.entrySet()) {
+            long requests = entry.getValue().requests().sumThenReset();
+            long items = entry.getValue().items().sumThenReset();
+            if (requests > 0) {
+                endpoints.put(entry.getKey().name(), Map.of("requests", requests, "items", items));
+                totalRequests += requests;
+            }
+        }
+
+        // Ids sem leituras no intervalo saem do mapa, liberando espaço para os ids quentes atuais.
+        // Uma leitura concorrente à remoção pode se perder, o que é aceitável para telemetria.
+        Map<Long, Long> idHistogram = new LinkedHashMap<>();
+        idReads.forEach((id, reads) -> {
+            long count = reads.sumThenReset();
+            if (count > 0) {
+                idHistogram.put(id, count);
+            } else {
+                idReads.remove(id, reads);
+            }
+        });
+        long untracked = untrackedIdReads.sumThenReset();
+
+        if (totalRequests == 0) {
+            return;
+        }
+
+        try {
+            experienceProducer.sendExperienceReads(
+                    EventFactory.createExperienceReadsPayload(nodeId, start, end, endpoints, idHistogram, untracked));
+            metricsService.recordKafkaEventPublished();
+        } catch (RuntimeException e) {
+            // Telemetria é descartável: falha no envio não afeta leituras
+            log.warn("⚠️ Failed to publish experience read telemetry: {}", e.getMessage());
+        }
+    }
+
+    private static Map<ReadEndpoint, Counters> createCounters() {
+        Map<ReadEndpoint, Counters> map = new EnumMap<>(ReadEndpoint.class);
+        for (ReadEndpoint endpoint : ReadEndpoint.values()) {
+            map.put(endpoint, new Counters());
+        }
+        return map;
+    }
+}
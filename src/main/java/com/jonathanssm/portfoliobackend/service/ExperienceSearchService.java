@@ -0,0 +1,107 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.dto.CursorPage;
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.dto.projection.ExperienceSearchHit;
+import com.jonathanssm.portfoliobackend.repository.ExperienceRepository;
+import com.jonathanssm.portfoliobackend.util.CursorCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Service responsável pela busca textual de experiências
+ * SRP: única responsabilidade - localizar e ranquear experiências por palavra-chave
+ * <p>
+ * No Postgres a busca usa o tsvector search_vector (título, empresa/projeto, tecnologias,
+ * descrição e responsabilidades, com pesos) e seu índice GIN; em outros bancos (H2 nos testes)
+ * cai em um LIKE com pesos equivalentes. A paginação é por cursor (score, id) e as respostas
+ * são montadas pelas projeções do ExperienceQueryService.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExperienceSearchService {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final ExperienceRepository experienceRepository;
+    private final ExperienceQueryService experienceQueryService;
+    private final ExperienceReadTelemetry experienceReadTelemetry;
+    private final MetricsService metricsService;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private boolean fullTextSearch;
+
+    @PostConstruct
+    void init() {
+        fullTextSearch = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        log.info("🔎 Experience search using {}", fullTextSearch ? "Postgres full-text index" : "LIKE fallback");
+    }
+
+    /**
+     * Busca experiências por palavra-chave, das mais relevantes para as menos relevantes
+     *
+     * @param query  Termos de busca (sintaxe websearch no Postgres: "frase", -exclusão, or)
+     * @param cursor Token opaco devolvido pela página anterior (null = primeira página)
+     * @param size   Itens por página
+     */
+    public CursorPage<ExperienceResponse> search(String query, String cursor, int size) {
+        log.info("🔎 Searching experiences - query: {}, cursor: {}, size: {}", query, cursor, size);
+
+        String terms = query.trim();
+        double score = Double.MAX_VALUE;
+        long id = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            try {
+                score = Double.parseDouble(parts[0]);
+                id = Long.parseLong(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid pagination cursor");
+            }
+        }
+
+        // Um resultado a mais indica se existe próxima página
+        List<ExperienceSearchHit> hits = fullTextSearch
+                ? experienceRepository.searchFullText(terms, score, id, size + 1)
+                : experienceRepository.searchByPattern(toLikePattern(terms), score, id, size + 1);
+
+        boolean hasNext = hits.size() > size;
+        List<ExperienceSearchHit> pageHits = hasNext ? hits.subList(0, size) : hits;
+
+        List<ExperienceResponse> experiences = experienceQueryService.findAllByIds(
+                pageHits.stream().map(ExperienceSearchHit::getId).toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            ExperienceSearchHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = CursorCodec.encode(last.getScore(), last.getId());
+        }
+
+        experienceReadTelemetry.record(ExperienceReadTelemetry.ReadEndpoint.SEARCH, experiences.size());
+        metricsService.recordExperienceFetch(experiences.size());
+        return new CursorPage<>(experiences, nextCursor, hasNext, null);
+    }
+
+    private static String toLikePattern(String terms) {
+        StringBuilder pattern = new StringBuilder(terms.length() + 2).append('%');
+        for (char c : terms.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
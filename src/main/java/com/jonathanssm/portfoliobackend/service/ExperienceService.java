@@ -1,27 +1,49 @@
 package com.jonathanssm.portfoliobackend.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.jonathanssm.portfoliobackend.constants.DefaultConstants;
+import com.jonathanssm.portfoliobackend.dto.CursorPage;
+import com.jonathanssm.portfoliobackend.dto.ExperienceBulkDeleteResponse;
+import com.jonathanssm.portfoliobackend.dto.ExperienceFilter;
 import com.jonathanssm.portfoliobackend.dto.ExperienceRequest;
 import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
 import com.jonathanssm.portfoliobackend.dto.mapper.ExperienceMapper;
+import com.jonathanssm.portfoliobackend.messaging.EventFactory;
 import com.jonathanssm.portfoliobackend.messaging.ExperienceProducer;
 import com.jonathanssm.portfoliobackend.model.Experience;
 import com.jonathanssm.portfoliobackend.model.Technology;
+import com.jonathanssm.portfoliobackend.model.event.ExperienceChangedEvent;
+import com.jonathanssm.portfoliobackend.model.event.ExperiencesChangedEvent;
 import com.jonathanssm.portfoliobackend.repository.ExperienceRepository;
 import com.jonathanssm.portfoliobackend.repository.TechnologyRepository;
+import com.jonathanssm.portfoliobackend.util.CursorCodec;
 import com.jonathanssm.portfoliobackend.util.JpaUtils;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -29,11 +51,23 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class ExperienceService {
 
+    private static final String TECHNOLOGIES = "technologies";
+    private static final String TECHNOLOGY_IDS = "technologyIds";
+
     private final ExperienceRepository experienceRepository;
     private final TechnologyRepository technologyRepository;
+    private final TechnologyCatalog technologyCatalog;
     private final ExperienceMapper experienceMapper;
     private final ExperienceProducer experienceProducer;
     private final MetricsService metricsService;
+    private final ExperienceSnapshotService experienceSnapshotService;
+    private final ExperienceQueryService experienceQueryService;
+    private final ExperienceFilterIndex experienceFilterIndex;
+    private final ExperienceReadTelemetry experienceReadTelemetry;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final BulkAuditService bulkAuditService;
 
     public ExperienceResponse createExperience(ExperienceRequest request) {
         log.info("📝 Creating new experience: {}", request.title());
@@ -41,57 +75,142 @@ public class ExperienceService {
         Experience experience = experienceMapper.toEntity(request);
 
         if (request.technologyIds() != null && !request.technologyIds().isEmpty()) {
-            Set<Technology> technologies = new HashSet<>(
-                    technologyRepository.findAllById(request.technologyIds())
-            );
-            experience.setTechnologies(technologies);
+            experience.setTechnologies(technologyReferences(request.technologyIds()));
         }
 
         experienceRepository.save(experience);
-        experienceProducer.sendExperienceCreated(experience);
+        applicationEventPublisher.publishEvent(new ExperienceChangedEvent(experience.getId()));
+
+        ExperienceResponse response = experienceMapper.toResponse(experience, technologyCatalog);
+        experienceProducer.sendExperienceCreated(response);
         metricsService.recordExperienceCreation();
         metricsService.recordKafkaEventPublished();
 
-        return experienceMapper.toResponse(experience);
+        return response;
     }
 
-    @Transactional(readOnly = true)
-    public List<ExperienceResponse> getAllExperiences() {
+    /**
+     * Lista completa já serializada, servida do snapshot em memória (sem banco nem Jackson)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ExperienceSnapshotService.SerializedBody getAllExperiences() {
         log.info("🔎 Fetching all experiences");
 
-        List<Experience> experiences = experienceRepository.findAllWithTechnologies();
-        List<ExperienceResponse> resp = experiences.stream()
-                .map(experienceMapper::toResponse)
-                .toList();
+        ExperienceSnapshotService.SerializedBody body = experienceSnapshotService.getAll();
+        int count = experienceSnapshotService.getCount();
 
-        experienceProducer.sendExperienceFetched(experiences.size());
-        metricsService.recordExperienceFetch(experiences.size());
-        metricsService.recordKafkaEventPublished();
-        return resp;
+        experienceReadTelemetry.record(ExperienceReadTelemetry.ReadEndpoint.LIST, count);
+        metricsService.recordExperienceFetch(count);
+        return body;
     }
 
     /**
-     * Busca experiências com paginação para melhor performance
+     * Busca experiências com paginação por cursor (keyset)
+     * <p>
+     * Custo constante, independente da profundidade: os ids da página via seek no índice
+     * (startDate, id) e as projeções dessas experiências e de suas tecnologias, sem hidratar
+     * entidades. O count só é executado quando solicitado.
+     *
+     * @param cursor       Token opaco devolvido pela página anterior (null = primeira página)
+     * @param size         Itens por página
+     * @param includeTotal Se true, inclui o total de experiências
      */
     @Transactional(readOnly = true)
-    public Page<ExperienceResponse> getAllExperiences(int page, int size) {
-        log.info("🔎 Fetching experiences with pagination - page: {}, size: {}", page, size);
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by("startDate").descending());
-        Page<Experience> experiences = experienceRepository.findAll(pageable);
-        
-        Page<ExperienceResponse> response = experiences.map(experienceMapper::toResponse);
-        
-        experienceProducer.sendExperienceFetched(experiences.getNumberOfElements());
-        metricsService.recordExperienceFetch(experiences.getNumberOfElements());
-        metricsService.recordKafkaEventPublished();
-        return response;
+    public CursorPage<ExperienceResponse> getExperiencesPage(String cursor, int size, boolean includeTotal) {
+        log.info("🔎 Fetching experiences page - cursor: {}, size: {}", cursor, size);
+
+        // Um id a mais indica se existe próxima página
+        Limit limit = Limit.of(size + 1);
+        List<Long> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = experienceRepository.findFirstPageIds(limit);
+        } else {
+            Cursor position = decodeCursor(cursor);
+            ids = experienceRepository.findPageIdsAfter(position.startDate(), position.id(), limit);
+        }
+
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+        List<ExperienceResponse> experiences = experienceQueryService.findAllByIds(pageIds);
+
+        String nextCursor = hasNext && !experiences.isEmpty() ? encodeCursor(experiences.get(experiences.size() - 1)) : null;
+        Long total = includeTotal ? experienceRepository.count() : null;
+
+        experienceReadTelemetry.record(ExperienceReadTelemetry.ReadEndpoint.PAGE, experiences.size());
+        metricsService.recordExperienceFetch(experiences.size());
+        return new CursorPage<>(experiences, nextCursor, hasNext, total);
     }
 
-    @Transactional(readOnly = true)
-    public ExperienceResponse getExperienceById(Long id) {
+    /**
+     * Experiência já serializada, servida do snapshot em memória (sem banco nem Jackson)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ExperienceSnapshotService.SerializedBody getExperienceById(Long id) {
         log.info("🔎 Fetching experience with id: {}", id);
 
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+        ExperienceSnapshotService.SerializedBody body = experienceSnapshotService.getById(id);
+        if (body == null) {
+            throw new EntityNotFoundException(DefaultConstants.EntityNames.EXPERIENCE + " not found with id: " + id);
+        }
+
+        experienceReadTelemetry.recordById(id);
+        metricsService.recordExperienceFetch(1);
+        return body;
+    }
+
+    /**
+     * Filtra experiências pelo índice em memória (interseção de bitmaps) e monta o array JSON a
+     * partir do snapshot: nenhuma consulta SQL nem serialização por requisição
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public byte[] filterExperiences(ExperienceFilter filter) {
+        log.info("🔎 Filtering experiences - {}", filter);
+
+        if (filter.startFrom() != null && filter.startTo() != null && filter.startFrom().isAfter(filter.startTo())) {
+            throw new IllegalArgumentException("startFrom must not be after startTo");
+        }
+        List<Long> ids = experienceFilterIndex.findIds(filter);
+        byte[] body = experienceSnapshotService.getJsonArray(ids);
+
+        experienceReadTelemetry.record(ExperienceReadTelemetry.ReadEndpoint.FILTER, ids.size());
+        metricsService.recordExperienceFetch(ids.size());
+        return body;
+    }
+
+    /**
+     * Exporta todas as experiências em NDJSON (um objeto JSON por linha) direto no stream de saída
+     * <p>
+     * Executado na thread do StreamingResponseBody: a transação read-only mantém o cursor JDBC
+     * aberto enquanto as linhas são escritas, com memória constante.
+     */
+    @Transactional(readOnly = true)
+    public void exportExperiences(OutputStream outputStream) {
+        log.info("📤 Exporting experiences as NDJSON");
+
+        long count = experienceQueryService.forEachExperience(experience -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(experience));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        log.info("✅ Exported {} experiences", count);
+        experienceReadTelemetry.record(ExperienceReadTelemetry.ReadEndpoint.EXPORT, count);
+        metricsService.recordExperienceFetch((int) count);
+    }
+
+    /**
+     * Substitui os dados da experiência; technologyIds null mantém as tecnologias atuais
+     */
+    public ExperienceResponse updateExperience(Long id, ExperienceRequest request) {
+        log.info("♻️ Updating experience with id: {}", id);
+
         // ✅ Usa JpaUtils para eliminar duplicação
         Experience experience = JpaUtils.findEntityByIdOrThrow(
                 experienceRepository,
@@ -99,57 +218,202 @@ public class ExperienceService {
                 DefaultConstants.EntityNames.EXPERIENCE
         );
 
-        experienceProducer.sendExperienceFetched(1);
-        metricsService.recordExperienceFetch(1);
-        metricsService.recordKafkaEventPublished();
-        return experienceMapper.toResponse(experience);
+        return completeUpdate(experience, applyChanges(experience, request));
     }
 
-    public ExperienceResponse updateExperience(Long id, ExperienceRequest request) {
-        log.info("♻️ Updating experience with id: {}", id);
+    /**
+     * Atualização parcial (JSON Merge Patch): campos ausentes são mantidos e null explícito limpa o
+     * campo (technologyIds: null remove todas as tecnologias). O patch é aplicado sobre o estado
+     * atual e o resultado validado como uma requisição completa, seguindo então o mesmo caminho do PUT.
+     */
+    public ExperienceResponse patchExperience(Long id, JsonNode patch) {
+        log.info("♻️ Patching experience with id: {}", id);
+
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Patch must be a JSON object");
+        }
 
-        // ✅ Usa JpaUtils para eliminar duplicação
         Experience experience = JpaUtils.findEntityByIdOrThrow(
                 experienceRepository,
                 id,
                 DefaultConstants.EntityNames.EXPERIENCE
         );
 
-        experience.setTitle(request.title());
-        experience.setCompanyName(request.companyName());
-        experience.setProjectName(request.projectName());
-        experience.setDescription(request.description());
-        experience.setStartDate(request.startDate());
-        experience.setEndDate(request.endDate());
-        experience.setCurrent(request.current());
-        experience.setResponsibilities(request.responsibilities());
+        ObjectNode merged = objectMapper.valueToTree(experienceMapper.toRequest(experience));
+        merged.setAll((ObjectNode) patch);
+        // No PUT technologyIds null mantém as tecnologias; no patch, null explícito limpa a coleção
+        if (merged.path(TECHNOLOGY_IDS).isNull()) {
+            merged.putArray(TECHNOLOGY_IDS);
+        }
+
+        ExperienceRequest request;
+        try {
+            request = objectMapper.treeToValue(merged, ExperienceRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid patch: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<ExperienceRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        return completeUpdate(experience, applyChanges(experience, request));
+    }
+
+    /**
+     * Copia apenas os valores que diferem dos atuais
+     *
+     * @return true se algum campo ou tecnologia mudou
+     */
+    private boolean applyChanges(Experience experience, ExperienceRequest request) {
+        boolean changed = update(experience.getTitle(), request.title(), experience::setTitle);
+        changed |= update(experience.getCompanyName(), request.companyName(), experience::setCompanyName);
+        changed |= update(experience.getProjectName(), request.projectName(), experience::setProjectName);
+        changed |= update(experience.getDescription(), request.description(), experience::setDescription);
+        changed |= update(experience.getStartDate(), request.startDate(), experience::setStartDate);
+        changed |= update(experience.getEndDate(), request.endDate(), experience::setEndDate);
+        changed |= update(experience.isCurrent(), request.current(), experience::setCurrent);
+        changed |= update(experience.getResponsibilities(), request.responsibilities(), experience::setResponsibilities);
 
         if (request.technologyIds() != null) {
-            Set<Technology> technologies = new HashSet<>(
-                    technologyRepository.findAllById(request.technologyIds())
-            );
-            experience.setTechnologies(technologies);
+            changed |= updateTechnologies(experience, request.technologyIds());
+        }
+        return changed;
+    }
+
+    /**
+     * Sem alteração efetiva não há escrita: nem UPDATE, nem auditoria, nem eventos
+     */
+    private ExperienceResponse completeUpdate(Experience experience, boolean changed) {
+        if (!changed) {
+            log.info("⏭️ Experience {} unchanged, skipping write", experience.getId());
+            return experienceMapper.toResponse(experience, technologyCatalog);
         }
 
         experienceRepository.saveAndFlush(experience);
-        experienceProducer.sendExperienceUpdated(experience);
+        applicationEventPublisher.publishEvent(new ExperienceChangedEvent(experience.getId()));
+
+        ExperienceResponse response = experienceMapper.toResponse(experience, technologyCatalog);
+        experienceProducer.sendExperienceUpdated(response);
         metricsService.recordKafkaEventPublished();
 
-        return experienceMapper.toResponse(experience);
+        return response;
+    }
+
+    private static <T> boolean update(T current, T value, Consumer<T> setter) {
+        if (Objects.equals(current, value)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+
+    /**
+     * Aplica apenas a diferença na coleção gerenciada: o Hibernate remove e insere somente as
+     * linhas alteradas de experience_technologies, em vez de recriar a associação inteira
+     * (ids desconhecidos pelo catálogo são ignorados, como na criação)
+     */
+    private boolean updateTechnologies(Experience experience, Collection<Long> technologyIds) {
+        Set<Long> requested = technologyCatalog.findAllById(technologyIds).stream()
+                .map(ExperienceResponse.TechnologyResponse::id)
+                .collect(Collectors.toSet());
+
+        Set<Technology> technologies = experience.getTechnologies();
+        boolean changed = technologies.removeIf(technology -> !requested.contains(technology.getId()));
+
+        Set<Long> current = technologies.stream().map(Technology::getId).collect(Collectors.toSet());
+        for (Long technologyId : requested) {
+            if (!current.contains(technologyId)) {
+                technologies.add(technologyRepository.getReferenceById(technologyId));
+                changed = true;
+            }
+        }
+        return changed;
     }
 
+    /**
+     * Remove a experiência sem carregá-la: o número de linhas removidas decide o 404
+     */
     public void deleteExperience(Long id) {
         log.info("🗑️ Deleting experience with id: {}", id);
 
-        // ✅ Usa JpaUtils para eliminar duplicação
-        JpaUtils.findEntityByIdOrThrow(
-                experienceRepository,
-                id,
-                DefaultConstants.EntityNames.EXPERIENCE
-        );
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+        if (deleteByIds(List.of(id)) == 0) {
+            throw new EntityNotFoundException(DefaultConstants.EntityNames.EXPERIENCE + " not found with id: " + id);
+        }
 
-        experienceRepository.deleteById(id);
+        applicationEventPublisher.publishEvent(new ExperienceChangedEvent(id));
         experienceProducer.sendExperienceDeleted(id);
         metricsService.recordKafkaEventPublished();
     }
+
+    /**
+     * Remove várias experiências em uma transação; ids inexistentes são apenas reportados
+     */
+    public ExperienceBulkDeleteResponse deleteExperiences(Collection<Long> ids) {
+        log.info("🗑️ Deleting {} experiences", ids.size());
+
+        List<Long> existingIds = experienceRepository.findExistingIds(ids);
+        Set<Long> existing = new HashSet<>(existingIds);
+        List<Long> notFoundIds = ids.stream()
+                .filter(id -> !existing.contains(id))
+                .toList();
+        if (existingIds.isEmpty()) {
+            return new ExperienceBulkDeleteResponse(0, notFoundIds);
+        }
+
+        int deleted = deleteByIds(existingIds);
+
+        applicationEventPublisher.publishEvent(new ExperiencesChangedEvent(List.copyOf(existingIds)));
+        experienceProducer.sendExperiencesDeleted(EventFactory.createExperienceBulkDeletePayload(existingIds));
+        metricsService.recordKafkaEventPublished();
+
+        log.info("✅ Deleted {} experiences", deleted);
+        return new ExperienceBulkDeleteResponse(deleted, notFoundIds);
+    }
+
+    /**
+     * Auditoria na revisão da transação e, em seguida, DELETE em lote (associações e experiências)
+     *
+     * @return quantidade de experiências removidas
+     */
+    private int deleteByIds(Collection<Long> ids) {
+        // O que o Envers gravaria removendo cada entidade: MOD das tecnologias (lado inverso
+        // auditado), DEL das associações e DEL das experiências
+        int revision = bulkAuditService.currentRevision();
+        bulkAuditService.auditCollectionElementChanges(Experience.class, TECHNOLOGIES, ids, revision);
+        bulkAuditService.auditCollectionDeletes(Experience.class, TECHNOLOGIES, ids, revision);
+        bulkAuditService.auditDeletes(Experience.class, ids, revision);
+        return experienceRepository.deleteAllByIdIn(ids);
+    }
+
+    /**
+     * Ids validados no catálogo viram referências (proxies): nenhum SELECT de tecnologias na escrita
+     */
+    private Set<Technology> technologyReferences(Collection<Long> technologyIds) {
+        return technologyCatalog.findAllById(technologyIds).stream()
+                .map(technology -> technologyRepository.getReferenceById(technology.id()))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Posição do cursor: última experiência entregue na página anterior
+     */
+    private record Cursor(LocalDate startDate, Long id) {
+    }
+
+    private static String encodeCursor(ExperienceResponse last) {
+        return CursorCodec.encode(last.startDate(), last.id());
+    }
+
+    private static Cursor decodeCursor(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 2);
+        try {
+            return new Cursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+    }
 }
@@ -0,0 +1,212 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.model.event.ExperienceChangedEvent;
+import com.jonathanssm.portfoliobackend.model.event.ExperiencesChangedEvent;
+import com.jonathanssm.portfoliobackend.model.event.TechnologyCatalogChangedEvent;
+import com.jonathanssm.portfoliobackend.util.HashUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Service responsável por manter o snapshot serializado das experiências
+ * SRP: única responsabilidade - servir experiências já serializadas (JSON e gzip)
+ * <p>
+ * O snapshot (lista completa + cada experiência por id) é imutável e trocado atomicamente após
+ * cada escrita commitada. Leituras públicas viram cópia de bytes, sem banco nem Jackson.
+ * Cada corpo carrega seus validadores HTTP (ETag do conteúdo e Last-Modified), permitindo 304
+ * sem qualquer trabalho adicional. Escritas de outras réplicas também reconstroem o snapshot,
+ * mantendo o mesmo ETag em todos os nós.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExperienceSnapshotService {
+
+    private final ExperienceQueryService experienceQueryService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Corpo já serializado em JSON e sua variante gzip, com validadores HTTP
+     *
+     * @param etag         ETag forte derivado do hash do JSON
+     * @param lastModified Última alteração conhecida do conteúdo
+     */
+    public record SerializedBody(byte[] json, byte[] gzip, String etag, Instant lastModified) {
+
+        /**
+         * ETag da representação: a variante gzip tem bytes diferentes, logo ETag próprio
+         */
+        public String etag(boolean gzipped) {
+            return gzipped ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag;
+        }
+    }
+
+    private record Snapshot(SerializedBody all, int count, Map<Long, SerializedBody> byId) {
+    }
+
+    // null = snapshot invalidado, reconstruído na próxima leitura
+    private volatile Snapshot snapshot;
+    // Instante da última escrita vista neste nó: remoções não deixam updatedAt para trás
+    private volatile Instant lastChange = Instant.EPOCH;
+
+    /**
+     * Lista completa de experiências serializada
+     */
+    public SerializedBody getAll() {
+        return currentSnapshot().all();
+    }
+
+    /**
+     * Quantidade de experiências no snapshot
+     */
+    public int getCount() {
+        return currentSnapshot().count();
+    }
+
+    /**
+     * Experiência serializada por id (null se não existir)
+     */
+    public SerializedBody getById(Long id) {
+        return currentSnapshot().byId().get(id);
+    }
+
+    /**
+     * Array JSON com as experiências dos ids informados, na ordem dos ids (ids ausentes são ignorados)
+     */
+    public byte[] getJsonArray(List<Long> ids) {
+        Map<Long, SerializedBody> byId = currentSnapshot().byId();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write('[');
+        boolean first = true;
+        for (Long id : ids) {
+            SerializedBody body = byId.get(id);
+            if (body != null) {
+                if (!first) {
+                    output.write(',');
+                }
+                output.writeBytes(body.json());
+                first = false;
+            }
+        }
+        output.write(']');
+        return output.toByteArray();
+    }
+
+    /**
+     * Reconstrói o snapshot após o commit de qualquer escrita em experiências
+     * (fora de transação: escrita de outra réplica, recebida via ExperienceBroadcastConsumer)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExperienceChanged(ExperienceChangedEvent event) {
+        log.debug("♻️ Experience {} changed, rebuilding snapshot", event.experienceId());
+        rebuildAfterChange();
+    }
+
+    /**
+     * Operação em lote: uma única reconstrução para todas as experiências alteradas
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExperiencesChanged(ExperiencesChangedEvent event) {
+        log.debug("♻️ {} experiences changed, rebuilding snapshot", event.experienceIds().size());
+        rebuildAfterChange();
+    }
+
+    /**
+     * Nomes, tipos ou versões de tecnologias mudaram: as experiências serializadas os embutem
+     */
+    @EventListener
+    public void onTechnologyCatalogChanged(TechnologyCatalogChangedEvent event) {
+        log.debug("♻️ Technology catalog changed, rebuilding snapshot");
+        rebuildAfterChange();
+    }
+
+    private void rebuildAfterChange() {
+        lastChange = Instant.now();
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // Nunca servir dados antigos: a próxima leitura tenta novamente
+            snapshot = null;
+            log.error("❌ Failed to rebuild experience snapshot: {}", e.getMessage(), e);
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    /**
+     * Serializado para que a última reconstrução sempre leia o estado mais recente.
+     * Leitura via projeções (ExperienceQueryService): nenhuma entidade é hidratada.
+     */
+    private synchronized Snapshot rebuild() {
+        long start = System.nanoTime();
+        Snapshot startedFrom = snapshot;
+        List<ExperienceResponse> experiences = experienceQueryService.findAll();
+        // Um id desconhecido recarregou o catálogo e o listener já reconstruiu (mesma thread): o mais novo vence
+        Snapshot nested = snapshot;
+        if (nested != startedFrom && nested != null) {
+            return nested;
+        }
+
+        Map<Long, SerializedBody> byId = new HashMap<>(experiences.size() * 2);
+        Instant listLastModified = lastChange;
+        for (ExperienceResponse experience : experiences) {
+            Instant lastModified = lastModifiedOf(experience);
+            byId.put(experience.id(), serialize(experience, lastModified));
+            if (lastModified.isAfter(listLastModified)) {
+                listLastModified = lastModified;
+            }
+        }
+
+        Snapshot rebuilt = new Snapshot(serialize(experiences, listLastModified), experiences.size(), Map.copyOf(byId));
+        snapshot = rebuilt;
+        log.info("📦 Experience snapshot rebuilt with {} experiences in {} ms",
+                experiences.size(), (System.nanoTime() - start) / 1_000_000);
+        return rebuilt;
+    }
+
+    private static Instant lastModifiedOf(ExperienceResponse experience) {
+        LocalDateTime timestamp = experience.updatedAt() != null ? experience.updatedAt() : experience.createdAt();
+        return timestamp != null ? timestamp.atZone(ZoneId.systemDefault()).toInstant() : Instant.EPOCH;
+    }
+
+    private SerializedBody serialize(Object value, Instant lastModified) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            String etag = "\"" + Long.toHexString(HashUtils.hash64(json)) + "\"";
+            return new SerializedBody(json, gzip(json), etag, lastModified);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize experience snapshot", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+}
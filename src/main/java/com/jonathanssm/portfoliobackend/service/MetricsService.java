@@ -1,11 +1,14 @@
 package com.jonathanssm.portfoliobackend.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Service responsável por coletar métricas básicas da aplicação
@@ -13,14 +16,22 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class MetricsService {
 
+    private final TokenRevocationService tokenRevocationService;
+    private final RateLimitingService rateLimitingService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final ExperienceFilterIndex experienceFilterIndex;
+    private final TechnologyCatalog technologyCatalog;
+
     private final AtomicLong loginAttempts = new AtomicLong(0);
     private final AtomicLong successfulLogins = new AtomicLong(0);
     private final AtomicLong failedLogins = new AtomicLong(0);
     private final AtomicLong experienceCreations = new AtomicLong(0);
     private final AtomicLong experienceFetches = new AtomicLong(0);
     private final AtomicLong kafkaEventsPublished = new AtomicLong(0);
+    private final Map<String, LongAdder> throttledRequests = new ConcurrentHashMap<>();
 
     /**
      * Registra uma tentativa de login
@@ -54,6 +65,14 @@ public class MetricsService {
         log.debug("Experience creation recorded. Total: {}", experienceCreations.get());
     }
 
+    /**
+     * Registra experiências criadas por importação em lote
+     */
+    public void recordExperienceImport(int count) {
+        experienceCreations.addAndGet(count);
+        log.debug("Experience import recorded. Count: {}, Total: {}", count, experienceCreations.get());
+    }
+
     /**
      * Registra busca de experiências
      */
@@ -70,6 +89,13 @@ public class MetricsService {
         log.debug("Kafka event published. Total: {}", kafkaEventsPublished.get());
     }
 
+    /**
+     * Registra requisição rejeitada pelo throttling (por rota)
+     */
+    public void recordThrottledRequest(String route) {
+        throttledRequests.computeIfAbsent(route, key -> new LongAdder()).increment();
+    }
+
     /**
      * Obtém todas as métricas coletadas
      */
@@ -85,9 +111,36 @@ public class MetricsService {
         // Métricas de experiências
         metrics.put("experiences.creations", experienceCreations.get());
         metrics.put("experiences.fetches", experienceFetches.get());
+        metrics.put("experiences.filterIndex.indexed", experienceFilterIndex.getIndexedCount());
+        metrics.put("experiences.filterIndex.bytes", experienceFilterIndex.getSizeInBytes());
+        metrics.put("technologies.catalogSize", technologyCatalog.size());
         
         // Métricas de Kafka
         metrics.put("kafka.eventsPublished", kafkaEventsPublished.get());
+
+        // Métricas de revogação de tokens
+        metrics.put("security.revokedTokens.size", tokenRevocationService.getRevokedTokenCount());
+        metrics.put("security.revokedTokens.revocations", tokenRevocationService.getRevocationCount());
+        metrics.put("security.revokedTokens.evictions", tokenRevocationService.getEvictionCount());
+        rateLimitingService.getTrackedKeyCounts().forEach((keyType, count) ->
+                metrics.put("security.rateLimit.trackedKeys." + keyType.name(), count));
+        metrics.put("security.rateLimit.evictions", rateLimitingService.getEvictionCount());
+        metrics.put("security.rateLimit.blockedKeys", rateLimitingService.getBlockedKeyCount());
+
+        // Métricas de hashing de senhas
+        metrics.put("passwordHashing.queueDepth", passwordHashingExecutor.getQueueDepth());
+        metrics.put("passwordHashing.active", passwordHashingExecutor.getActiveCount());
+        metrics.put("passwordHashing.completed", passwordHashingExecutor.getCompletedCount());
+        metrics.put("passwordHashing.rejected", passwordHashingExecutor.getRejectedCount());
+        metrics.put("passwordHashing.expired", passwordHashingExecutor.getExpiredCount());
+        metrics.put("passwordHashing.avgMillis", passwordHashingExecutor.getAverageHashMillis());
+        metrics.put("passwordHashing.maxMillis", passwordHashingExecutor.getMaxHashMillis());
+        passwordHashingExecutor.getHashTimeHistogram().forEach((bucket, count) ->
+                metrics.put("passwordHashing.histogram." + bucket, count));
+
+        // Métricas de throttling de requisições
+        throttledRequests.forEach((route, rejections) ->
+                metrics.put("throttling.rejections." + route, rejections.sum()));
         
         // Métricas gerais
         metrics.put("timestamp", System.currentTimeMillis());
@@ -113,6 +166,7 @@ public class MetricsService {
         experienceCreations.set(0);
         experienceFetches.set(0);
         kafkaEventsPublished.set(0);
+        throttledRequests.clear();
         log.info("All metrics reset to zero");
     }
 }
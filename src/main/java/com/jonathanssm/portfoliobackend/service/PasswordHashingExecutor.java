@@ -0,0 +1,197 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Service responsável por executar hashing/verificação de senhas em um pool dedicado
+ * <p>
+ * Pool do tamanho dos núcleos com fila limitada: threads do Tomcat apenas aguardam, sem virar
+ * hashers CPU-bound. Com a fila cheia a requisição é rejeitada na hora (503), e tarefas que
+ * esperam na fila além do prazo são descartadas sem executar.
+ */
+@Service
+@Slf4j
+public class PasswordHashingExecutor {
+
+    // Limites superiores (ms) dos buckets do histograma de tempo de hash; o último bucket é aberto
+    private static final long[] HISTOGRAM_BOUNDS_MILLIS = {10, 25, 50, 100, 250, 500, 1000};
+
+    @Value("${password-hashing.threads:0}") // 0 = número de núcleos
+    private int threads;
+
+    @Value("${password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${password-hashing.queue-timeout-ms:2000}")
+    private long queueTimeoutMillis;
+
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder totalHashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder[] histogram = new LongAdder[HISTOGRAM_BOUNDS_MILLIS.length + 1];
+
+    {
+        Arrays.setAll(histogram, i -> new LongAdder());
+    }
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("🔑 Password hashing executor started with {} threads and queue capacity {}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Executa a tarefa no pool, aguardando o resultado
+     *
+     * @throws TaskRejectedException se a fila estiver cheia ou o prazo de fila for excedido
+     */
+    public <T> T execute(Supplier<T> task) {
+        // Quem reivindicar primeiro decide: a tarefa (execução) ou o chamador (desistência por prazo)
+        AtomicBoolean claimed = new AtomicBoolean(false);
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                long start = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    recordHash(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TaskRejectedException("Password hashing capacity exhausted", e);
+        }
+
+        try {
+            return future.get(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (claimed.compareAndSet(false, true)) {
+                future.cancel(false);
+                expired.increment();
+                throw new TaskRejectedException("Password hashing queue deadline exceeded");
+            }
+            // Já em execução: o hashing é limitado, aguarda a conclusão
+            return awaitRunning(future);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException("Interrupted while waiting for password hashing", e);
+        }
+    }
+
+    private <T> T awaitRunning(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException("Interrupted while waiting for password hashing", e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Password hashing failed", cause);
+    }
+
+    private void recordHash(long elapsedNanos) {
+        completed.increment();
+        totalHashNanos.add(elapsedNanos);
+        maxHashNanos.accumulate(elapsedNanos);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        int bucket = 0;
+        while (bucket < HISTOGRAM_BOUNDS_MILLIS.length && elapsedMillis > HISTOGRAM_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        histogram[bucket].increment();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getExpiredCount() {
+        return expired.sum();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public double getAverageHashMillis() {
+        long count = completed.sum();
+        return count > 0 ? totalHashNanos.sum() / (double) count / 1_000_000 : 0.0;
+    }
+
+    public double getMaxHashMillis() {
+        return maxHashNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Histograma de tempo de hash: bucket (le_Nms / gt_Nms) → quantidade de execuções
+     */
+    public Map<String, Long> getHashTimeHistogram() {
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < HISTOGRAM_BOUNDS_MILLIS.length; i++) {
+            buckets.put("le_" + HISTOGRAM_BOUNDS_MILLIS[i] + "ms", histogram[i].sum());
+        }
+        buckets.put("gt_" + HISTOGRAM_BOUNDS_MILLIS[HISTOGRAM_BOUNDS_MILLIS.length - 1] + "ms",
+                histogram[HISTOGRAM_BOUNDS_MILLIS.length].sum());
+        return buckets;
+    }
+}
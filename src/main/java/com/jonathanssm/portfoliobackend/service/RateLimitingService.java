@@ -1,85 +1,230 @@
 package com.jonathanssm.portfoliobackend.service;
 
+import com.jonathanssm.portfoliobackend.util.HashUtils;
+import com.jonathanssm.portfoliobackend.util.SlidingWindowCounterTable;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service responsável por controlar rate limiting de tentativas de login
  * Segue SRP - única responsabilidade: controlar tentativas de acesso
+ * <p>
+ * Falhas são contadas em janelas deslizantes por três políticas independentes (usuário, IP e
+ * usuário+IP), cada uma em uma SlidingWindowCounterTable de memória fixa. As chaves são hashes
+ * de 64 bits: nenhuma string é alocada por requisição. O bloqueio só ocorre quando alguma
+ * política atinge o limite, e expira sozinho conforme a janela desliza.
+ * <p>
+ * Além disso, mantém bloqueios explícitos de IP/usuário decididos pela detecção de força bruta
+ * (BruteForceDetectionService), propagados via Kafka e limitados a MAX_BLOCKED_KEYS entradas.
  */
 @Service
 @Slf4j
 public class RateLimitingService {
 
-    private static final int MAX_ATTEMPTS = 5;
-    private static final long LOCKOUT_DURATION = 15L * 60 * 1000; // 15 minutos
-    
-    private final Map<String, AtomicInteger> loginAttempts = new ConcurrentHashMap<>();
-    private final Map<String, Long> lastAttemptTime = new ConcurrentHashMap<>();
+    private static final int CONCURRENCY_LEVEL = 16;
+    private static final int MAX_BLOCKED_KEYS = 100_000;
+    private static final long BLOCK_PURGE_INTERVAL_MILLIS = 60_000L;
+
+    /**
+     * Tipo de chave de uma política de rate limiting
+     */
+    public enum KeyType {
+        USER, IP, USER_IP
+    }
+
+    private record Policy(int maxFailures, SlidingWindowCounterTable counters) {
+    }
+
+    @Value("${rate-limit.login.capacity:65536}")
+    private int capacity;
+
+    @Value("${rate-limit.login.user.max-failures:20}")
+    private int userMaxFailures;
+
+    @Value("${rate-limit.login.user.window-ms:900000}")
+    private long userWindowMillis;
+
+    @Value("${rate-limit.login.ip.max-failures:50}")
+    private int ipMaxFailures;
+
+    @Value("${rate-limit.login.ip.window-ms:900000}")
+    private long ipWindowMillis;
+
+    @Value("${rate-limit.login.user-ip.max-failures:5}")
+    private int userIpMaxFailures;
+
+    @Value("${rate-limit.login.user-ip.window-ms:900000}")
+    private long userIpWindowMillis;
+
+    private final Map<KeyType, Policy> policies = new EnumMap<>(KeyType.class);
+    // Hash da chave → fim do bloqueio (epoch millis)
+    private final Map<Long, Long> blockedKeys = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        policies.put(KeyType.USER, createPolicy(userMaxFailures, userWindowMillis));
+        policies.put(KeyType.IP, createPolicy(ipMaxFailures, ipWindowMillis));
+        policies.put(KeyType.USER_IP, createPolicy(userIpMaxFailures, userIpWindowMillis));
+    }
+
+    private Policy createPolicy(int maxFailures, long windowMillis) {
+        return new Policy(maxFailures, new SlidingWindowCounterTable(capacity, CONCURRENCY_LEVEL, windowMillis));
+    }
 
     /**
      * Verifica se a conta está bloqueada por tentativas excessivas
      */
     public boolean isAccountLocked(String username, String ipAddress) {
-        String key = createKey(username, ipAddress);
-        Long lastAttempt = lastAttemptTime.get(key);
-        
-        if (lastAttempt == null) {
-            return false;
+        if (getBlockRemainingMillis(KeyType.USER, username) > 0 || getBlockRemainingMillis(KeyType.IP, ipAddress) > 0) {
+            log.warn("Login blocked by brute force detection for user: {} from IP: {}", username, ipAddress);
+            return true;
         }
-        
-        long timeSinceLastAttempt = System.currentTimeMillis() - lastAttempt;
-        boolean isLocked = timeSinceLastAttempt < LOCKOUT_DURATION;
-        
-        if (isLocked) {
-            log.warn("Account locked for user: {} from IP: {}", username, ipAddress);
+
+        long now = System.currentTimeMillis();
+        for (Map.Entry<KeyType, Policy> entry : policies.entrySet()) {
+            Policy policy = entry.getValue();
+            long failures = policy.counters().estimate(createKey(entry.getKey(), username, ipAddress), now);
+            if (failures >= policy.maxFailures()) {
+                log.warn("Account locked by {} policy for user: {} from IP: {} ({} failures)",
+                        entry.getKey(), username, ipAddress, failures);
+                return true;
+            }
         }
-        
-        return isLocked;
+        return false;
     }
 
     /**
      * Registra uma tentativa de login falhada
      */
     public void recordFailedAttempt(String username, String ipAddress) {
-        String key = createKey(username, ipAddress);
-        
-        int attempts = loginAttempts.computeIfAbsent(key, k -> new AtomicInteger(0)).incrementAndGet();
-        lastAttemptTime.put(key, System.currentTimeMillis());
-        
-        log.warn("Failed login attempt {} for user: {} from IP: {}", attempts, username, ipAddress);
-        
-        if (attempts >= MAX_ATTEMPTS) {
-            log.error("Account locked due to {} failed attempts for user: {} from IP: {}", 
-                     attempts, username, ipAddress);
+        long now = System.currentTimeMillis();
+        for (Map.Entry<KeyType, Policy> entry : policies.entrySet()) {
+            Policy policy = entry.getValue();
+            long failures = policy.counters().increment(createKey(entry.getKey(), username, ipAddress), now);
+
+            if (failures == policy.maxFailures()) {
+                log.error("Account locked by {} policy due to {} failed attempts for user: {} from IP: {}",
+                        entry.getKey(), failures, username, ipAddress);
+            }
         }
+        log.warn("Failed login attempt for user: {} from IP: {}", username, ipAddress);
     }
 
     /**
      * Limpa as tentativas de login após sucesso
+     * <p>
+     * Apenas a chave usuário+IP é zerada: um login válido não deve apagar o histórico de ataques
+     * distribuídos contra o usuário nem de um IP que testa várias contas.
      */
     public void clearLoginAttempts(String username, String ipAddress) {
-        String key = createKey(username, ipAddress);
-        loginAttempts.remove(key);
-        lastAttemptTime.remove(key);
+        policies.get(KeyType.USER_IP).counters().reset(createKey(KeyType.USER_IP, username, ipAddress));
         log.debug("Login attempts cleared for user: {} from IP: {}", username, ipAddress);
     }
 
     /**
-     * Obtém o número de tentativas restantes
+     * Bloqueia um usuário ou IP até o instante informado (decisão da detecção de força bruta)
+     *
+     * @param keyType      USER ou IP
+     * @param value        Username ou endereço IP
+     * @param blockedUntil Fim do bloqueio em epoch millis (bloqueios já vencidos são ignorados)
+     */
+    public void block(KeyType keyType, String value, long blockedUntil) {
+        if (blockedUntil <= System.currentTimeMillis()) {
+            return;
+        }
+        if (blockedKeys.size() >= MAX_BLOCKED_KEYS) {
+            log.warn("Blocked keys limit reached, ignoring block for {}: {}", keyType, value);
+            return;
+        }
+        blockedKeys.merge(createBlockKey(keyType, value), blockedUntil, Math::max);
+        log.warn("🛑 {} blocked: {}", keyType, value);
+    }
+
+    /**
+     * Tempo restante de bloqueio explícito do usuário ou IP (0 se não bloqueado)
+     */
+    public long getBlockRemainingMillis(KeyType keyType, String value) {
+        if (blockedKeys.isEmpty() || value == null) {
+            return 0;
+        }
+        Long blockedUntil = blockedKeys.get(createBlockKey(keyType, value));
+        return blockedUntil != null ? Math.max(0, blockedUntil - System.currentTimeMillis()) : 0;
+    }
+
+    /**
+     * Remove bloqueios vencidos
+     */
+    @Scheduled(fixedDelay = BLOCK_PURGE_INTERVAL_MILLIS, initialDelay = BLOCK_PURGE_INTERVAL_MILLIS)
+    public void purgeExpiredBlocks() {
+        long now = System.currentTimeMillis();
+        blockedKeys.values().removeIf(blockedUntil -> blockedUntil <= now);
+    }
+
+    public int getBlockedKeyCount() {
+        return blockedKeys.size();
+    }
+
+    /**
+     * Obtém o número de tentativas restantes (política mais restritiva)
      */
     public int getRemainingAttempts(String username, String ipAddress) {
-        String key = createKey(username, ipAddress);
-        AtomicInteger attempts = loginAttempts.get(key);
-        return attempts != null ? Math.max(0, MAX_ATTEMPTS - attempts.get()) : MAX_ATTEMPTS;
+        long now = System.currentTimeMillis();
+        long remaining = Integer.MAX_VALUE;
+        for (Map.Entry<KeyType, Policy> entry : policies.entrySet()) {
+            Policy policy = entry.getValue();
+            long failures = policy.counters().estimate(createKey(entry.getKey(), username, ipAddress), now);
+            remaining = Math.min(remaining, policy.maxFailures() - failures);
+        }
+        return (int) Math.max(0, remaining);
+    }
+
+    /**
+     * Duração máxima de um bloqueio, em minutos (maior janela entre as políticas)
+     */
+    public long getLockoutMinutes() {
+        long windowMillis = policies.values().stream()
+                .mapToLong(policy -> policy.counters().getWindowMillis())
+                .max()
+                .orElse(0L);
+        return TimeUnit.MILLISECONDS.toMinutes(windowMillis);
     }
 
-    private String createKey(String username, String ipAddress) {
-        return username + ":" + ipAddress;
+    /**
+     * Número de chaves ativas por política (varre as tabelas; uso em métricas)
+     */
+    public Map<KeyType, Integer> getTrackedKeyCounts() {
+        long now = System.currentTimeMillis();
+        Map<KeyType, Integer> counts = new EnumMap<>(KeyType.class);
+        policies.forEach((keyType, policy) -> counts.put(keyType, policy.counters().countActiveKeys(now)));
+        return counts;
     }
-}
 
+    /**
+     * Número de chaves ativas descartadas por falta de capacidade
+     */
+    public long getEvictionCount() {
+        return policies.values().stream()
+                .mapToLong(policy -> policy.counters().getEvictionCount())
+                .sum();
+    }
+
+    private long createBlockKey(KeyType keyType, String value) {
+        return keyType == KeyType.IP ? createKey(keyType, null, value) : createKey(keyType, value, null);
+    }
+
+    private long createKey(KeyType keyType, String username, String ipAddress) {
+        return switch (keyType) {
+            case USER -> HashUtils.combine(keyType.ordinal(), username);
+            case IP -> HashUtils.combine(keyType.ordinal(), ipAddress);
+            case USER_IP -> HashUtils.combine(HashUtils.combine(keyType.ordinal(), username), ipAddress);
+        };
+    }
+}
@@ -0,0 +1,152 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.dto.projection.TechnologyRow;
+import com.jonathanssm.portfoliobackend.model.event.TechnologyCatalogChangedEvent;
+import com.jonathanssm.portfoliobackend.repository.TechnologyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service responsável pelo catálogo de tecnologias em memória
+ * SRP: única responsabilidade - servir tecnologias (e seus tipos) por id sem acessar o banco
+ * <p>
+ * Tecnologias e tipos quase nunca mudam: o catálogo inteiro é carregado em um snapshot imutável
+ * indexado por id, trocado atomicamente a cada recarga. Recargas acontecem periodicamente e
+ * quando uma consulta pede um id desconhecido (limitadas por um intervalo mínimo); se o
+ * conteúdo mudou, TechnologyCatalogChangedEvent invalida os caches derivados.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TechnologyCatalog {
+
+    private static final Comparator<ExperienceResponse.TechnologyResponse> BY_NAME =
+            Comparator.comparing(ExperienceResponse.TechnologyResponse::name)
+                    .thenComparing(ExperienceResponse.TechnologyResponse::id);
+
+    private final TechnologyRepository technologyRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${technology-catalog.min-reload-interval-ms:5000}")
+    private long minReloadIntervalMillis;
+
+    private record Snapshot(Map<Long, ExperienceResponse.TechnologyResponse> byId, long loadedAt) {
+    }
+
+    // null = ainda não carregado
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${technology-catalog.reload-interval-ms:300000}",
+            initialDelayString = "${technology-catalog.reload-interval-ms:300000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * Tecnologias dos ids informados, ordenadas por nome; ids inexistentes são ignorados
+     */
+    public List<ExperienceResponse.TechnologyResponse> findAllById(Collection<Long> ids) {
+        List<ExperienceResponse.TechnologyResponse> technologies = lookup(currentSnapshot(), ids);
+        if (technologies.size() < ids.size() && reloadIfStale()) {
+            technologies = lookup(currentSnapshot(), ids);
+        }
+        technologies.sort(BY_NAME);
+        return technologies;
+    }
+
+    public int size() {
+        return currentSnapshot().byId().size();
+    }
+
+    /**
+     * Recarrega o catálogo, publicando TechnologyCatalogChangedEvent se o conteúdo mudou
+     */
+    public void reload() {
+        if (swapSnapshot()) {
+            applicationEventPublisher.publishEvent(new TechnologyCatalogChangedEvent());
+        }
+    }
+
+    /**
+     * Troca o snapshot; o evento é publicado fora do lock (listeners reconstroem caches que
+     * consultam o catálogo)
+     *
+     * @return true se o conteúdo mudou em relação a um snapshot anterior
+     */
+    private synchronized boolean swapSnapshot() {
+        Snapshot previous = snapshot;
+
+        List<TechnologyRow> rows = technologyRepository.findAllRows();
+        Map<Long, ExperienceResponse.TechnologyResponse> byId = new HashMap<>(rows.size() * 2);
+        rows.forEach(row -> byId.put(row.id(), row.toResponse()));
+
+        snapshot = new Snapshot(Map.copyOf(byId), System.currentTimeMillis());
+
+        if (previous == null) {
+            log.info("🧩 Technology catalog loaded with {} technologies", byId.size());
+            return false;
+        }
+        if (previous.byId().equals(byId)) {
+            return false;
+        }
+        log.info("🧩 Technology catalog changed, now {} technologies", byId.size());
+        return true;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            swapSnapshot();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    /**
+     * Id desconhecido: o catálogo pode estar desatualizado. Recarrega no máximo uma vez por intervalo
+     * para que ids inválidos em requisições não virem uma consulta cada.
+     */
+    private boolean reloadIfStale() {
+        boolean changed;
+        synchronized (this) {
+            if (System.currentTimeMillis() - snapshot.loadedAt() < minReloadIntervalMillis) {
+                return false;
+            }
+            changed = swapSnapshot();
+        }
+        if (changed) {
+            applicationEventPublisher.publishEvent(new TechnologyCatalogChangedEvent());
+        }
+        return true;
+    }
+
+    private static List<ExperienceResponse.TechnologyResponse> lookup(Snapshot snapshot, Collection<Long> ids) {
+        List<ExperienceResponse.TechnologyResponse> technologies = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ExperienceResponse.TechnologyResponse technology = snapshot.byId().get(id);
+            if (technology != null) {
+                technologies.add(technology);
+            }
+        }
+        return technologies;
+    }
+}
@@ -0,0 +1,149 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.util.LongBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service responsável pelo armazenamento de tokens revogados (logout/refresh)
+ * <p>
+ * Cada token é identificado por um digest de 64 bits e mantido apenas até a sua própria
+ * expiração: as entradas são agrupadas em buckets por minuto de expiração e os buckets
+ * vencidos são varridos periodicamente. A memória fica limitada aos tokens revogados
+ * dentro do TTL, e não a todos os tokens revogados desde o boot.
+ * <p>
+ * Um filtro de Bloom fica à frente do mapa: o caso comum (token não revogado) é resolvido
+ * com poucas sondagens de bits. Revogações de outras réplicas chegam via Kafka
+ * (ver AuthBroadcastConsumer) e são aplicadas aqui de forma idempotente.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private static final long BUCKET_MILLIS = 60_000L; // 1 minuto
+    private static final int BLOOM_FILTER_MIN_CAPACITY = 100_000;
+    private static final double BLOOM_FILTER_FALSE_POSITIVE_RATE = 0.01;
+
+    private final Map<Long, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Set<Long>> expiryBuckets = new ConcurrentSkipListMap<>();
+
+    // Revogações e reconstruções do filtro são serializadas; leituras não usam lock
+    private final Object bloomFilterLock = new Object();
+    private volatile LongBloomFilter bloomFilter = new LongBloomFilter(BLOOM_FILTER_MIN_CAPACITY, BLOOM_FILTER_FALSE_POSITIVE_RATE);
+
+    private final AtomicLong revocations = new AtomicLong(0);
+    private final AtomicLong evictions = new AtomicLong(0);
+
+    /**
+     * Revoga um token até a sua expiração
+     *
+     * @param tokenId   Digest de 64 bits do token
+     * @param expiresAt Expiração do token (tokens já expirados são ignorados)
+     */
+    public void revoke(long tokenId, Instant expiresAt) {
+        revoke(tokenId, expiresAt, System.currentTimeMillis());
+    }
+
+    void revoke(long tokenId, Instant expiresAt, long nowMillis) {
+        if (expiresAt == null) {
+            return;
+        }
+
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        if (expiresAtMillis <= nowMillis) {
+            return;
+        }
+
+        synchronized (bloomFilterLock) {
+            // Bloom antes do mapa: um leitor nunca vê a entrada no mapa sem o bit correspondente
+            bloomFilter.put(tokenId);
+            if (revokedTokens.put(tokenId, expiresAtMillis) == null) {
+                expiryBuckets.computeIfAbsent(expiresAtMillis / BUCKET_MILLIS, bucket -> ConcurrentHashMap.newKeySet())
+                        .add(tokenId);
+                revocations.incrementAndGet();
+                log.debug("Token revoked until {}", expiresAt);
+            }
+            if (revokedTokens.size() > bloomFilter.getExpectedInsertions()) {
+                rebuildBloomFilter();
+            }
+        }
+    }
+
+    /**
+     * Verifica se o token está revogado
+     */
+    public boolean isRevoked(long tokenId) {
+        return isRevoked(tokenId, System.currentTimeMillis());
+    }
+
+    boolean isRevoked(long tokenId, long nowMillis) {
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAtMillis = revokedTokens.get(tokenId);
+        return expiresAtMillis != null && expiresAtMillis > nowMillis;
+    }
+
+    /**
+     * Remove os tokens cujo bucket de expiração já passou
+     */
+    @Scheduled(fixedDelay = BUCKET_MILLIS, initialDelay = BUCKET_MILLIS)
+    public void evictExpired() {
+        evictExpired(System.currentTimeMillis());
+    }
+
+    void evictExpired(long now) {
+        long currentBucket = now / BUCKET_MILLIS;
+        long evicted = 0;
+
+        Map.Entry<Long, Set<Long>> bucket;
+        while ((bucket = expiryBuckets.firstEntry()) != null && bucket.getKey() < currentBucket) {
+            expiryBuckets.remove(bucket.getKey());
+            for (Long tokenId : bucket.getValue()) {
+                if (revokedTokens.computeIfPresent(tokenId, (id, expiresAt) -> expiresAt <= now ? null : expiresAt) == null) {
+                    evicted++;
+                }
+            }
+        }
+
+        if (evicted > 0) {
+            evictions.addAndGet(evicted);
+            synchronized (bloomFilterLock) {
+                rebuildBloomFilter();
+            }
+            log.debug("Evicted {} expired revoked tokens. Remaining: {}", evicted, revokedTokens.size());
+        }
+    }
+
+    /**
+     * Recria o filtro de Bloom a partir das entradas vivas (filtros de Bloom não suportam remoção)
+     * <p>
+     * Deve ser chamado com bloomFilterLock adquirido.
+     */
+    private void rebuildBloomFilter() {
+        int capacity = Math.max(BLOOM_FILTER_MIN_CAPACITY, revokedTokens.size() * 2);
+        LongBloomFilter rebuilt = new LongBloomFilter(capacity, BLOOM_FILTER_FALSE_POSITIVE_RATE);
+        revokedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+
+    public int getRevokedTokenCount() {
+        return revokedTokens.size();
+    }
+
+    public long getRevocationCount() {
+        return revocations.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+}
@@ -2,10 +2,12 @@ package com.jonathanssm.portfoliobackend.service;
 
 import com.jonathanssm.portfoliobackend.constants.ErrorConstants;
 import com.jonathanssm.portfoliobackend.constants.TransactionConstants;
+import com.jonathanssm.portfoliobackend.model.User;
 import com.jonathanssm.portfoliobackend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,14 +16,18 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Service especializado em autenticação de usuários
  * Responsabilidade única: Autenticação e validação de credenciais
+ * <p>
+ * Como UserDetailsPasswordService, regrava o hash após login bem-sucedido quando o custo BCrypt
+ * armazenado difere do calibrado (o AuthenticationManager chama updatePassword automaticamente).
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class UserAuthenticationService implements UserDetailsService {
+public class UserAuthenticationService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
+    // Fase curta de leitura do login: perfis e roles são EAGER, a conexão volta ao pool antes do BCrypt
     @Override
     @Transactional(readOnly = true, timeout = TransactionConstants.AUTH_TIMEOUT)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -31,4 +37,16 @@ public class UserAuthenticationService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException(ErrorConstants.USER_NOT_FOUND + username));
     }
 
+    /**
+     * Persiste o novo hash já calculado (a transação não cobre o BCrypt)
+     */
+    @Override
+    @Transactional(timeout = TransactionConstants.AUTH_TIMEOUT)
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User existingUser = (User) user;
+        userRepository.updatePassword(existingUser.getId(), newPassword);
+        existingUser.setPassword(newPassword);
+        log.info("🔑 Password hash upgraded for user: {}", existingUser.getUsername());
+        return existingUser;
+    }
 }
@@ -5,12 +5,16 @@ import com.jonathanssm.portfoliobackend.dto.UserResponse;
 import com.jonathanssm.portfoliobackend.dto.mapper.UserMapper;
 import com.jonathanssm.portfoliobackend.messaging.UserProducer;
 import com.jonathanssm.portfoliobackend.model.User;
+import com.jonathanssm.portfoliobackend.model.event.UserTokenVersionChangedEvent;
 import com.jonathanssm.portfoliobackend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Service especializado em gerenciamento de usuários (CRUD)
@@ -26,6 +30,8 @@ public class UserManagementService {
     private final UserProfileService userProfileService;
     private final UserProducer userProducer;
     private final UserMapper userMapper;
+    private final UserTokenVersionService userTokenVersionService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * Cria um novo usuário
@@ -94,6 +100,41 @@ public class UserManagementService {
         return userMapper.toResponse(savedUser);
     }
 
+    /**
+     * Revoga todas as sessões do usuário incrementando a versão de tokens
+     * <p>
+     * Tokens emitidos com a versão anterior passam a ser rejeitados em todas as réplicas,
+     * sem necessidade de enumerá-los.
+     *
+     * @param userId ID do usuário
+     * @throws IllegalArgumentException se o usuário não existir
+     */
+    @Transactional
+    public void revokeAllSessions(Long userId) {
+        log.info("🔒 Revoking all sessions for user id: {}", userId);
+
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            throw new IllegalArgumentException("User not found with id: " + userId);
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
+        applicationEventPublisher.publishEvent(new UserTokenVersionChangedEvent(user));
+
+        log.info("✅ All sessions revoked for user: {} (token version {})", user.getUsername(), user.getTokenVersion());
+    }
+
+    /**
+     * Aplica a nova versão no cache local e a propaga para as demais réplicas somente após o
+     * commit: se a transação falhar, nenhum nó passa a rejeitar tokens ainda válidos
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTokenVersionChanged(UserTokenVersionChangedEvent event) {
+        User user = event.user();
+        userTokenVersionService.update(user.getId(), user.getTokenVersion());
+        userProducer.sendUserUpdated(user);
+    }
+
     /**
      * Valida dados para criação de usuário
      *
@@ -0,0 +1,70 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service responsável pelo cache userId → versão de tokens
+ * <p>
+ * Consultado a cada verificação de JWT: um token cuja versão seja menor que a atual do usuário
+ * foi emitido antes de um "revogar todas as sessões" e é rejeitado. O banco só é lido no primeiro
+ * acesso de cada usuário; mudanças chegam pelos eventos user-updated (ver UserTokenVersionConsumer).
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserTokenVersionService {
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Retorna a versão atual dos tokens do usuário
+     *
+     * @return versão atual ou null se o usuário não existir
+     */
+    public Long getCurrentVersion(Long userId) {
+        Long version = versions.get(userId);
+        if (version != null) {
+            return version;
+        }
+
+        // Usuários inexistentes não são cacheados para não reter ids arbitrários
+        return userRepository.findTokenVersionById(userId)
+                .map(loaded -> versions.merge(userId, loaded, Math::max))
+                .orElse(null);
+    }
+
+    /**
+     * Verifica se a versão carimbada no token ainda é válida
+     */
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        Long currentVersion = getCurrentVersion(userId);
+        return currentVersion != null && tokenVersion >= currentVersion;
+    }
+
+    /**
+     * Atualiza a versão conhecida do usuário (nunca regride: eventos podem chegar fora de ordem)
+     */
+    public void update(Long userId, long tokenVersion) {
+        Long merged = versions.merge(userId, tokenVersion, Math::max);
+        log.debug("Token version for user {} is now {}", userId, merged);
+    }
+
+    /**
+     * Remove o usuário do cache (ex.: usuário excluído)
+     */
+    public void evict(Long userId) {
+        versions.remove(userId);
+    }
+
+    public int getCachedUserCount() {
+        return versions.size();
+    }
+}
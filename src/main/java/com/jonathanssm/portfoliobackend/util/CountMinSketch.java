@@ -0,0 +1,72 @@
+package com.jonathanssm.portfoliobackend.util;
+
+import java.util.Arrays;
+
+/**
+ * Count-min sketch de memória fixa para chaves long
+ * <p>
+ * Estima frequências com erro apenas para cima (colisões nunca reduzem a contagem), com
+ * memória independente do número de chaves distintas. Não é thread-safe: o chamador sincroniza.
+ */
+public final class CountMinSketch {
+
+    private static final long SECOND_HASH_SEED = 0x9e3779b97f4a7c15L;
+
+    private final int[] counters;
+    private final int depth;
+    private final int width;
+    private final int mask;
+
+    /**
+     * @param width Contadores por linha (arredondado para potência de 2); erro ~ total / width
+     * @param depth Número de linhas (funções de hash); confiança ~ 1 - 2^-depth
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("Width and depth must be positive");
+        }
+
+        this.width = width <= 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.mask = this.width - 1;
+        this.counters = new int[this.width * depth];
+    }
+
+    /**
+     * Incrementa a chave
+     *
+     * @return nova estimativa da chave (mínimo entre as linhas)
+     */
+    public int add(long key) {
+        long hash1 = HashUtils.mix64(key);
+        long hash2 = HashUtils.mix64(key ^ SECOND_HASH_SEED);
+
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = row * width + (int) ((hash1 + row * hash2) & mask);
+            if (counters[index] < Integer.MAX_VALUE) {
+                counters[index]++;
+            }
+            estimate = Math.min(estimate, counters[index]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Estimativa da frequência da chave
+     */
+    public int estimate(long key) {
+        long hash1 = HashUtils.mix64(key);
+        long hash2 = HashUtils.mix64(key ^ SECOND_HASH_SEED);
+
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row * width + (int) ((hash1 + row * hash2) & mask)]);
+        }
+        return estimate;
+    }
+
+    public void clear() {
+        Arrays.fill(counters, 0);
+    }
+}
@@ -0,0 +1,47 @@
+package com.jonathanssm.portfoliobackend.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class para cursores opacos de paginação keyset
+ * <p>
+ * A posição (valores da chave de ordenação) é unida por '|' e codificada em base64url sem
+ * padding; o cliente apenas devolve o token recebido.
+ */
+@UtilityClass
+public class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+    private static final Pattern SEPARATOR_PATTERN = Pattern.compile(Pattern.quote(SEPARATOR));
+
+    public static String encode(Object... parts) {
+        StringJoiner position = new StringJoiner(SEPARATOR);
+        for (Object part : parts) {
+            position.add(String.valueOf(part));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o cursor em exatamente expectedParts valores
+     *
+     * @throws IllegalArgumentException se o cursor não for válido
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = SEPARATOR_PATTERN.split(position, -1);
+            if (parts.length == expectedParts) {
+                return parts;
+            }
+        } catch (IllegalArgumentException e) {
+            // cai na exceção abaixo
+        }
+        throw new IllegalArgumentException("Invalid pagination cursor");
+    }
+}
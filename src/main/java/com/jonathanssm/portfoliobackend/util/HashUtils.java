@@ -0,0 +1,71 @@
+package com.jonathanssm.portfoliobackend.util;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class para hashing não criptográfico de 64 bits
+ * <p>
+ * Usado para transformar chaves textuais (tokens, usernames, IPs) em chaves long compactas,
+ * evitando concatenação de strings e hashing de strings longas em estruturas em memória.
+ */
+@UtilityClass
+public class HashUtils {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long GOLDEN_RATIO = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Calcula FNV-1a 64 bits de um intervalo de caracteres, finalizado com mix64
+     *
+     * @param value Sequência de caracteres
+     * @param start Índice inicial (inclusivo)
+     * @param end   Índice final (exclusivo)
+     * @return Hash de 64 bits
+     */
+    public static long hash64(CharSequence value, int start, int end) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = start; i < end; i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix64(hash);
+    }
+
+    /**
+     * Calcula o hash de 64 bits de uma sequência completa (null é tratado como vazio)
+     */
+    public static long hash64(CharSequence value) {
+        return value == null ? mix64(FNV_OFFSET_BASIS) : hash64(value, 0, value.length());
+    }
+
+    /**
+     * Calcula FNV-1a 64 bits de um array de bytes, finalizado com mix64 (ex.: ETag de conteúdo)
+     */
+    public static long hash64(byte[] data) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : data) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return mix64(hash);
+    }
+
+    /**
+     * Combina um hash existente com uma nova sequência, sem concatenar strings
+     * <p>
+     * Útil para chaves compostas (ex.: usuário + IP): combine(combine(seed, username), ip).
+     */
+    public static long combine(long seed, CharSequence value) {
+        return mix64(seed * GOLDEN_RATIO + hash64(value));
+    }
+
+    /**
+     * Finalizador do SplitMix64: espalha os bits para uso em tabelas e filtros de Bloom
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
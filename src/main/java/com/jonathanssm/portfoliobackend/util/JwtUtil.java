@@ -1,29 +1,38 @@
 package com.jonathanssm.portfoliobackend.util;
 
 import com.jonathanssm.portfoliobackend.constants.SecurityConstants;
+import com.jonathanssm.portfoliobackend.model.User;
+import com.jonathanssm.portfoliobackend.service.TokenRevocationService;
+import com.jonathanssm.portfoliobackend.service.UserTokenVersionService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
-    private static final String BASE64URL_PATTERN = "^[A-Za-z0-9_-]+$";
-
     @Value("${jwt.secret:mySecretKey123456789012345678901234567890}")
     private String secret;
 
@@ -33,116 +42,189 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration:604800000}") // 7 dias
     private Long refreshExpiration;
 
-    private final Set<String> blacklistedTokens = ConcurrentHashMap.newKeySet();
+    // Quando habilitado, access tokens carregam roles e o filtro não consulta o banco
+    @Getter
+    @Value("${jwt.stateless-authorization:false}")
+    private boolean statelessAuthorization;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
-    }
+    private final TokenRevocationService tokenRevocationService;
+    private final UserTokenVersionService userTokenVersionService;
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    // Chave e parser são imutáveis e thread-safe: derivados uma única vez na inicialização
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * Verifica assinatura, expiração e revogação do token em uma única passada
+     *
+     * @param token JWT sem o prefixo Bearer
+     * @return claims verificadas ou vazio se o token for inválido
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            log.debug("Token is null or empty");
+            return Optional.empty();
+        }
+
+        // Verificar formato básico do JWT (header.payload.signature)
+        if (!isValidJwtFormat(token)) {
+            log.debug("Token has invalid format");
+            return Optional.empty();
+        }
+
+        final Claims claims;
+        try {
+            // parseClaimsJws valida assinatura e expiração (ExpiredJwtException)
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT token rejected: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        long tokenId = HashUtils.hash64(token, token.lastIndexOf('.') + 1, token.length());
+        if (tokenRevocationService.isRevoked(tokenId)) {
+            log.debug("Token is revoked");
+            return Optional.empty();
+        }
+
+        Long userId = extractLong(claims, SecurityConstants.TokenFields.USER_ID);
+        Long version = extractLong(claims, SecurityConstants.TokenFields.VERSION);
+        // Tokens sem carimbo (emitidos antes da versão por usuário) expiram naturalmente
+        if (userId != null && version != null && !userTokenVersionService.isCurrent(userId, version)) {
+            log.debug("Token version {} is outdated for user {}", version, userId);
+            return Optional.empty();
+        }
+
+        return Optional.of(new VerifiedToken(
+                tokenId,
+                claims.getSubject(),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                claims.get(SecurityConstants.TokenFields.TYPE, String.class),
+                extractAuthorities(claims),
+                userId,
+                version
+        ));
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public String extractUsername(String token) {
+        return verify(token).map(VerifiedToken::subject).orElse(null);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public String generateToken(UserDetails userDetails) {
+        Map<String, Object> claims = createVersionClaims(userDetails);
+        if (statelessAuthorization && userDetails instanceof User user) {
+            claims.put(SecurityConstants.TokenFields.ROLES, user.getAllRoles().stream()
+                    .map(role -> role.getName().name())
+                    .sorted()
+                    .toList());
+        }
+        return createToken(claims, userDetails.getUsername(), expiration);
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public String generateRefreshToken(UserDetails userDetails) {
+        Map<String, Object> claims = createVersionClaims(userDetails);
+        claims.put(SecurityConstants.TokenFields.TYPE, SecurityConstants.TokenFields.REFRESH);
+        return createToken(claims, userDetails.getUsername(), refreshExpiration);
     }
 
-    public String generateToken(UserDetails userDetails) {
+    /**
+     * Carimbo de usuário/versão de tokens, comparado com UserTokenVersionService na verificação
+     */
+    private Map<String, Object> createVersionClaims(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        if (userDetails instanceof User user && user.getId() != null) {
+            claims.put(SecurityConstants.TokenFields.USER_ID, user.getId());
+            claims.put(SecurityConstants.TokenFields.VERSION, user.getTokenVersion() != null ? user.getTokenVersion() : 0L);
+        }
+        return claims;
     }
 
-    private String createToken(Map<String, Object> claims, String subject) {
+    private String createToken(Map<String, Object> claims, String subject, long validityMillis) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + expiration);
+        Date expiryDate = new Date(now.getTime() + validityMillis);
 
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     public Boolean validateToken(String token) {
-        if (token == null || token.trim().isEmpty()) {
-            log.debug("Token is null or empty");
-            return false;
-        }
-        
-        // Verificar formato básico do JWT (header.payload.signature)
-        if (!isValidJwtFormat(token)) {
-            log.debug("Token has invalid format");
-            return false;
-        }
-        
-        return !isTokenExpired(token) && !blacklistedTokens.contains(token);
+        return verify(token).isPresent();
+    }
+
+    public void invalidateToken(String token) {
+        verify(token).ifPresent(this::invalidateToken);
     }
 
     /**
-     * Valida o formato básico do JWT
+     * Revoga um token já verificado até a sua expiração
      */
-    private boolean isValidJwtFormat(String token) {
-        // JWT deve ter exatamente 3 partes separadas por ponto
-        String[] parts = token.split("\\.");
-        if (parts.length != 3) {
-            return false;
-        }
-        
-        // Cada parte deve conter apenas caracteres válidos para Base64URL
-        return parts[0].matches(BASE64URL_PATTERN) &&
-               parts[1].matches(BASE64URL_PATTERN) &&
-               parts[2].matches(BASE64URL_PATTERN);
+    public void invalidateToken(VerifiedToken token) {
+        tokenRevocationService.revoke(token.tokenId(), token.expiresAt());
+        log.info("Token invalidated until its expiration");
     }
 
-    public String generateRefreshToken(UserDetails userDetails) {
-        Map<String, Object> claims = new HashMap<>();
-        claims.put(SecurityConstants.TokenFields.TYPE, SecurityConstants.TokenFields.REFRESH);
-        return createRefreshToken(claims, userDetails.getUsername());
+    public boolean isRefreshToken(String token) {
+        return verify(token).map(VerifiedToken::isRefreshToken).orElse(false);
     }
 
-    private String createRefreshToken(Map<String, Object> claims, String subject) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + refreshExpiration);
-
-        return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(subject)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
-                .compact();
+    private Set<String> extractAuthorities(Claims claims) {
+        Object roles = claims.get(SecurityConstants.TokenFields.ROLES);
+        if (!(roles instanceof Collection<?> values)) {
+            return Set.of();
+        }
+        return values.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
     }
 
-    public void invalidateToken(String token) {
-        blacklistedTokens.add(token);
-        log.info("Token invalidated and added to blacklist");
+    private Long extractLong(Claims claims, String name) {
+        Object value = claims.get(name);
+        return value instanceof Number number ? number.longValue() : null;
     }
 
-    public boolean isRefreshToken(String token) {
-        try {
-            Claims claims = extractAllClaims(token);
-            return SecurityConstants.TokenFields.REFRESH.equals(claims.get(SecurityConstants.TokenFields.TYPE));
-        } catch (Exception e) {
-            return false;
+    /**
+     * Valida o formato básico do JWT
+     * <p>
+     * Varredura única dos caracteres: exatamente 3 partes Base64URL não vazias separadas por ponto,
+     * sem split nem regex.
+     */
+    private boolean isValidJwtFormat(String token) {
+        int dots = 0;
+        int partLength = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (partLength == 0 || ++dots > 2) {
+                    return false;
+                }
+                partLength = 0;
+            } else if (isBase64UrlChar(c)) {
+                partLength++;
+            } else {
+                return false;
+            }
         }
+        return dots == 2 && partLength > 0;
+    }
+
+    private static boolean isBase64UrlChar(char c) {
+        return (c >= 'A' && c <= 'Z')
+                || (c >= 'a' && c <= 'z')
+                || (c >= '0' && c <= '9')
+                || c == '-'
+                || c == '_';
     }
 }
@@ -0,0 +1,70 @@
+package com.jonathanssm.portfoliobackend.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom thread-safe para chaves long
+ * <p>
+ * Responde "definitivamente ausente" com poucas sondagens de bits, sem acesso a mapas.
+ * Não suporta remoção: quem o utiliza deve reconstruí-lo quando o conjunto encolher.
+ */
+public final class LongBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final long SECOND_HASH_SEED = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final int expectedInsertions;
+
+    /**
+     * @param expectedInsertions Número esperado de chaves
+     * @param falsePositiveRate  Taxa de falso positivo desejada (0 &lt; fpp &lt; 1)
+     */
+    public LongBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = (int) Math.max(1, (optimalBits + 63) / 64);
+
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN2));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public void put(long key) {
+        long h1 = HashUtils.mix64(key);
+        long h2 = HashUtils.mix64(h1 ^ SECOND_HASH_SEED) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int wordIndex = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words.get(wordIndex) & mask) == 0) {
+                words.getAndUpdate(wordIndex, word -> word | mask);
+            }
+        }
+    }
+
+    public boolean mightContain(long key) {
+        long h1 = HashUtils.mix64(key);
+        long h2 = HashUtils.mix64(h1 ^ SECOND_HASH_SEED) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getExpectedInsertions() {
+        return expectedInsertions;
+    }
+}
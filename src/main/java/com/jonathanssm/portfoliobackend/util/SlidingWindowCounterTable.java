@@ -0,0 +1,262 @@
+package com.jonathanssm.portfoliobackend.util;
+
+/**
+ * Tabela de contadores por janela deslizante indexada por chaves long
+ * <p>
+ * Endereçamento aberto em arrays primitivos (nenhum objeto por chave), dividida em segmentos
+ * com lock próprio (lock striping). Cada slot guarda a contagem da janela atual e da anterior;
+ * a estimativa pondera a anterior pela fração que a janela deslizante ainda cobre.
+ * <p>
+ * A memória é fixa: slots sem atividade há mais de uma janela (ou zerados) são reaproveitados e,
+ * com a vizinhança de sondagem cheia, o slot de menor contagem estimada é sobrescrito (empate: o
+ * menos recente). Assim uma enxurrada de chaves novas não apaga os contadores mais altos.
+ */
+public final class SlidingWindowCounterTable {
+
+    private static final int MAX_PROBES = 16;
+    // Índice de janela 0 corresponde a 1970: nunca ocorre para timestamps reais
+    private static final long EMPTY = 0L;
+
+    private final long windowMillis;
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    /**
+     * @param capacity         Número total de chaves rastreáveis
+     * @param concurrencyLevel Número de segmentos (arredondado para potência de 2)
+     * @param windowMillis     Duração da janela em milissegundos
+     */
+    public SlidingWindowCounterTable(int capacity, int concurrencyLevel, long windowMillis) {
+        if (capacity <= 0 || concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Capacity and concurrency level must be positive");
+        }
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+
+        int segmentCount = nextPowerOfTwo(concurrencyLevel);
+        int slotsPerSegment = nextPowerOfTwo(Math.max(MAX_PROBES, (capacity + segmentCount - 1) / segmentCount));
+
+        this.windowMillis = windowMillis;
+        this.segmentMask = segmentCount - 1;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(slotsPerSegment);
+        }
+    }
+
+    /**
+     * Incrementa o contador da chave
+     *
+     * @return contagem estimada na janela deslizante, já incluindo este incremento
+     */
+    public long increment(long key, long nowMillis) {
+        long hash = HashUtils.mix64(key);
+        return segmentFor(hash).increment(key, (int) hash, nowMillis / windowMillis, nowMillis % windowMillis, windowMillis);
+    }
+
+    /**
+     * Contagem estimada da chave na janela deslizante (0 se desconhecida)
+     */
+    public long estimate(long key, long nowMillis) {
+        long hash = HashUtils.mix64(key);
+        return segmentFor(hash).estimate(key, (int) hash, nowMillis / windowMillis, nowMillis % windowMillis, windowMillis);
+    }
+
+    /**
+     * Zera os contadores da chave
+     */
+    public void reset(long key) {
+        long hash = HashUtils.mix64(key);
+        segmentFor(hash).reset(key, (int) hash);
+    }
+
+    /**
+     * Número de chaves com atividade na janela atual ou anterior (varre a tabela)
+     */
+    public int countActiveKeys(long nowMillis) {
+        long window = nowMillis / windowMillis;
+        int active = 0;
+        for (Segment segment : segments) {
+            active += segment.countActive(window);
+        }
+        return active;
+    }
+
+    /**
+     * Número de chaves ativas sobrescritas por falta de espaço
+     */
+    public long getEvictionCount() {
+        long evictions = 0;
+        for (Segment segment : segments) {
+            evictions += segment.getEvictions();
+        }
+        return evictions;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments[(int) (hash >>> 32) & segmentMask];
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private static final class Segment {
+
+        private final long[] keys;
+        private final long[] windows;
+        private final int[] current;
+        private final int[] previous;
+        private final int mask;
+        private long evictions;
+
+        Segment(int slots) {
+            this.keys = new long[slots];
+            this.windows = new long[slots];
+            this.current = new int[slots];
+            this.previous = new int[slots];
+            this.mask = slots - 1;
+        }
+
+        synchronized long increment(long key, int hash, long window, long elapsed, long windowMillis) {
+            int slot = claim(key, hash, window, elapsed, windowMillis);
+            roll(slot, window);
+            if (current[slot] < Integer.MAX_VALUE) {
+                current[slot]++;
+            }
+            return weighted(current[slot], previous[slot], elapsed, windowMillis);
+        }
+
+        synchronized long estimate(long key, int hash, long window, long elapsed, long windowMillis) {
+            int slot = find(key, hash);
+            return slot < 0 ? 0 : estimateSlot(slot, window, elapsed, windowMillis);
+        }
+
+        synchronized void reset(long key, int hash) {
+            int slot = find(key, hash);
+            if (slot >= 0) {
+                current[slot] = 0;
+                previous[slot] = 0;
+            }
+        }
+
+        synchronized int countActive(long window) {
+            int active = 0;
+            for (long slotWindow : windows) {
+                if (slotWindow != EMPTY && slotWindow >= window - 1) {
+                    active++;
+                }
+            }
+            return active;
+        }
+
+        synchronized long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * Localiza a chave; slots nunca voltam a ficar vazios, então um slot vazio encerra a busca
+         */
+        private int find(long key, int hash) {
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int slot = (hash + probe) & mask;
+                if (windows[slot] == EMPTY) {
+                    return -1;
+                }
+                if (keys[slot] == key) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Localiza a chave ou reserva um slot para ela (vazio, expirado, zerado ou, em último caso,
+         * o de menor contagem estimada)
+         */
+        private int claim(long key, int hash, long window, long elapsed, long windowMillis) {
+            int reusable = -1;
+            int victim = -1;
+            long victimCount = Long.MAX_VALUE;
+            long victimWindow = Long.MAX_VALUE;
+
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int slot = (hash + probe) & mask;
+                long slotWindow = windows[slot];
+                if (slotWindow == EMPTY) {
+                    if (reusable < 0) {
+                        reusable = slot;
+                    }
+                    break;
+                }
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                if (reusable >= 0) {
+                    continue;
+                }
+                if (isIdle(slot, window)) {
+                    reusable = slot;
+                    continue;
+                }
+                long count = estimateSlot(slot, window, elapsed, windowMillis);
+                if (count < victimCount || (count == victimCount && slotWindow < victimWindow)) {
+                    victimCount = count;
+                    victimWindow = slotWindow;
+                    victim = slot;
+                }
+            }
+
+            int slot = reusable >= 0 ? reusable : victim;
+            if (reusable < 0) {
+                evictions++;
+            }
+            keys[slot] = key;
+            windows[slot] = window;
+            current[slot] = 0;
+            previous[slot] = 0;
+            return slot;
+        }
+
+        /**
+         * Sem contagem na janela atual nem na anterior (expirado ou zerado): não contribui mais para a estimativa
+         */
+        private boolean isIdle(int slot, long window) {
+            long slotWindow = windows[slot];
+            if (slotWindow == window) {
+                return current[slot] == 0 && previous[slot] == 0;
+            }
+            return slotWindow < window - 1 || current[slot] == 0;
+        }
+
+        private long estimateSlot(int slot, long window, long elapsed, long windowMillis) {
+            long slotWindow = windows[slot];
+            if (slotWindow == window) {
+                return weighted(current[slot], previous[slot], elapsed, windowMillis);
+            }
+            if (slotWindow == window - 1) {
+                return weighted(0, current[slot], elapsed, windowMillis);
+            }
+            return 0;
+        }
+
+        private void roll(int slot, long window) {
+            long slotWindow = windows[slot];
+            if (slotWindow == window) {
+                return;
+            }
+            previous[slot] = slotWindow == window - 1 ? current[slot] : 0;
+            current[slot] = 0;
+            windows[slot] = window;
+        }
+
+        private static long weighted(int currentCount, int previousCount, long elapsed, long windowMillis) {
+            return currentCount + (previousCount * (windowMillis - elapsed)) / windowMillis;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.jonathanssm.portfoliobackend.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tabela de token buckets lock-free indexada por chaves long
+ * <p>
+ * Cada bucket é representado por um único long (theoretical arrival time, algoritmo GCRA):
+ * consumir um token é um compareAndSet, sem locks nem objetos por chave. Buckets cheios
+ * (tempo teórico já no passado) equivalem a slots livres e podem ser reaproveitados; com a
+ * vizinhança de sondagem ocupada, o bucket mais ocioso é sobrescrito. Sob corrida na criação
+ * de uma chave o limite é aproximado, o que é aceitável para throttling.
+ */
+public final class TokenBucketTable {
+
+    private static final int MAX_PROBES = 8;
+    private static final long EMPTY = 0L;
+
+    private final AtomicLongArray keys;
+    private final AtomicLongArray arrivals;
+    private final int mask;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final long origin = System.nanoTime();
+
+    /**
+     * @param capacity          Número de chaves rastreáveis (arredondado para potência de 2)
+     * @param burst             Tokens disponíveis em rajada
+     * @param refillPerSecond   Tokens repostos por segundo
+     */
+    public TokenBucketTable(int capacity, int burst, double refillPerSecond) {
+        if (capacity <= 0 || burst <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity, burst and refill rate must be positive");
+        }
+
+        int slots = Math.max(MAX_PROBES, Integer.highestOneBit(capacity - 1 | 1) << 1);
+        this.keys = new AtomicLongArray(slots);
+        this.arrivals = new AtomicLongArray(slots);
+        this.mask = slots - 1;
+        this.emissionIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+    }
+
+    /**
+     * Tenta consumir um token da chave
+     *
+     * @return 0 se o token foi concedido, ou o tempo em nanossegundos até o próximo token
+     */
+    public long tryAcquire(long key) {
+        return tryAcquire(key, System.nanoTime() - origin);
+    }
+
+    /**
+     * Tenta consumir um token da chave no instante informado (nanossegundos desde a criação da tabela)
+     */
+    long tryAcquire(long key, long now) {
+        long storedKey = key == EMPTY ? 1L : key;
+        int slot = claim(storedKey, now);
+
+        while (true) {
+            long arrival = arrivals.get(slot);
+            long base = Math.max(arrival, now);
+            long waitNanos = base - burstToleranceNanos - now;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (arrivals.compareAndSet(slot, arrival, base + emissionIntervalNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Localiza o bucket da chave ou assume um slot vazio, cheio (ocioso) ou o mais ocioso da vizinhança
+     */
+    private int claim(long key, long now) {
+        int start = (int) HashUtils.mix64(key);
+
+        while (true) {
+            int candidate = -1;
+            long candidateKey = EMPTY;
+            int idlest = -1;
+            long idlestKey = EMPTY;
+            long idlestArrival = Long.MAX_VALUE;
+
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int slot = (start + probe) & mask;
+                long slotKey = keys.get(slot);
+                if (slotKey == key) {
+                    return slot;
+                }
+                if (slotKey == EMPTY) {
+                    // Slots nunca voltam a ficar vazios: a chave não está adiante
+                    if (candidate < 0) {
+                        candidate = slot;
+                    }
+                    break;
+                }
+                long arrival = arrivals.get(slot);
+                if (candidate < 0 && arrival <= now) {
+                    candidate = slot;
+                    candidateKey = slotKey;
+                }
+                if (arrival < idlestArrival) {
+                    idlestArrival = arrival;
+                    idlest = slot;
+                    idlestKey = slotKey;
+                }
+            }
+
+            int slot = candidate >= 0 ? candidate : idlest;
+            long previousKey = candidate >= 0 ? candidateKey : idlestKey;
+            if (keys.compareAndSet(slot, previousKey, key)) {
+                // Bucket assumido começa cheio
+                arrivals.accumulateAndGet(slot, now, Math::min);
+                return slot;
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.jonathanssm.portfoliobackend.util;
+
+import com.jonathanssm.portfoliobackend.constants.SecurityConstants;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Claims de um JWT cuja assinatura e expiração já foram verificadas
+ * <p>
+ * Produzido uma única vez por {@link JwtUtil#verify(String)} e consumido pelo filtro,
+ * AuthTokenService e AuthService sem necessidade de novo parse do token.
+ * {@code tokenId} é um digest de 64 bits da assinatura, usado como chave compacta de revogação.
+ * <p>
+ * {@code userId} e {@code version} identificam a geração de tokens do usuário (revogação em massa).
+ * {@code authorities} só está presente em access tokens emitidos com autorização stateless
+ * habilitada (jwt.stateless-authorization).
+ */
+public record VerifiedToken(
+        long tokenId,
+        String subject,
+        Instant expiresAt,
+        String type,
+        Set<String> authorities,
+        Long userId,
+        Long version
+) {
+
+    public VerifiedToken {
+        authorities = authorities != null ? Set.copyOf(authorities) : Set.of();
+    }
+
+    public boolean isRefreshToken() {
+        return SecurityConstants.TokenFields.REFRESH.equals(type);
+    }
+
+    public boolean hasAuthorities() {
+        return !authorities.isEmpty();
+    }
+}
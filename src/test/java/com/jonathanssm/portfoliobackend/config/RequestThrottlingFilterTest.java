@@ -0,0 +1,121 @@
+package com.jonathanssm.portfoliobackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jonathanssm.portfoliobackend.constants.HttpConstants;
+import com.jonathanssm.portfoliobackend.service.MetricsService;
+import com.jonathanssm.portfoliobackend.service.RateLimitingService;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RequestThrottlingFilterTest {
+
+    private static final String CLIENT_IP = "10.0.0.1";
+    private static final int LOGIN_BURST = 2;
+    // Um token a cada 1000 s: nada é reposto durante o teste
+    private static final double SLOW_REFILL = 0.001;
+    private static final long RETRY_AFTER_SECONDS = 1_000;
+
+    private final MetricsService metricsService = mock(MetricsService.class);
+    private final RateLimitingService rateLimitingService = mock(RateLimitingService.class);
+    private final RequestThrottlingFilter filter =
+            new RequestThrottlingFilter(metricsService, rateLimitingService, new ObjectMapper().findAndRegisterModules());
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> limits = Map.ofEntries(
+                Map.entry("enabled", true),
+                Map.entry("capacity", 1024),
+                Map.entry("defaultBurst", 1),
+                Map.entry("defaultRefillPerSecond", SLOW_REFILL),
+                Map.entry("loginBurst", LOGIN_BURST),
+                Map.entry("loginRefillPerSecond", SLOW_REFILL),
+                Map.entry("refreshBurst", 1),
+                Map.entry("refreshRefillPerSecond", SLOW_REFILL),
+                Map.entry("registerBurst", 1),
+                Map.entry("registerRefillPerSecond", SLOW_REFILL),
+                Map.entry("experiencesBurst", 1),
+                Map.entry("experiencesRefillPerSecond", SLOW_REFILL));
+        limits.forEach((field, value) -> ReflectionTestUtils.setField(filter, field, value));
+        filter.init();
+    }
+
+    @Test
+    void throttlesAfterBurstWithRetryAfter() throws Exception {
+        for (int i = 0; i < LOGIN_BURST; i++) {
+            assertEquals(HttpStatus.OK.value(), perform("/auth/login", CLIENT_IP).getStatus());
+        }
+
+        MockHttpServletResponse throttled = perform("/auth/login", CLIENT_IP);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), throttled.getStatus());
+        assertEquals(String.valueOf(RETRY_AFTER_SECONDS), throttled.getHeader(HttpConstants.Headers.RETRY_AFTER));
+        verify(metricsService).recordThrottledRequest(RequestThrottlingFilter.ThrottledRoute.LOGIN.name());
+    }
+
+    @Test
+    void bucketsAreSeparatedByRouteAndClient() throws Exception {
+        perform("/auth/login", CLIENT_IP);
+        perform("/auth/login", CLIENT_IP);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), perform("/auth/login", CLIENT_IP).getStatus());
+
+        assertEquals(HttpStatus.OK.value(), perform("/auth/login", "10.0.0.2").getStatus());
+        assertEquals(HttpStatus.OK.value(), perform("/experiences/1", CLIENT_IP).getStatus());
+        assertEquals(HttpStatus.OK.value(), perform("/auth/refresh", CLIENT_IP).getStatus());
+        // /health cai no limite DEFAULT
+        assertEquals(HttpStatus.OK.value(), perform("/health", CLIENT_IP).getStatus());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), perform("/actuator/info", CLIENT_IP).getStatus());
+    }
+
+    @Test
+    void rejectsBlockedIpForRemainingBlockTime() throws Exception {
+        when(rateLimitingService.getBlockRemainingMillis(RateLimitingService.KeyType.IP, CLIENT_IP)).thenReturn(90_500L);
+        FilterChain chain = mock(FilterChain.class);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("/experiences", CLIENT_IP), response, chain);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("91", response.getHeader(HttpConstants.Headers.RETRY_AFTER));
+        verify(chain, never()).doFilter(any(), any());
+        verify(metricsService).recordThrottledRequest("BLOCKED");
+    }
+
+    @Test
+    void disabledFilterPassesEverything() throws Exception {
+        ReflectionTestUtils.setField(filter, "enabled", false);
+
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletResponse response = perform("/auth/register", CLIENT_IP);
+            assertEquals(HttpStatus.OK.value(), response.getStatus());
+            assertNull(response.getHeader(HttpConstants.Headers.RETRY_AFTER));
+        }
+    }
+
+    private MockHttpServletResponse perform(String path, String ipAddress) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(path, ipAddress), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String path, String ipAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(ipAddress);
+        return request;
+    }
+}
@@ -0,0 +1,153 @@
+package com.jonathanssm.portfoliobackend.controller;
+
+import com.jonathanssm.portfoliobackend.constants.HttpConstants;
+import com.jonathanssm.portfoliobackend.model.Experience;
+import com.jonathanssm.portfoliobackend.model.event.ExperienceChangedEvent;
+import com.jonathanssm.portfoliobackend.repository.ExperienceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GETs condicionais servidos do snapshot: ETag por variante (identity/gzip), Last-Modified e Vary
+ * (o CORS também acrescenta valores ao Vary)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+class ExperienceConditionalGetTest {
+
+    private static final String GZIP_ETAG_SUFFIX = "-gzip\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private String byIdPath;
+
+    @BeforeEach
+    void setUp() {
+        Experience experience = new Experience();
+        experience.setTitle("Conditional experience");
+        experience.setCompanyName("Conditional company");
+        experience.setStartDate(LocalDate.of(2020, 1, 1));
+        Long id = experienceRepository.save(experience).getId();
+        // Escrita direta no repositório não publica evento: reconstrói o snapshot
+        eventPublisher.publishEvent(new ExperienceChangedEvent(id));
+        byIdPath = "/experiences/" + id;
+    }
+
+    @Test
+    void plainResponseCarriesValidatorsAndVary() throws Exception {
+        for (String path : new String[]{byIdPath, "/experiences"}) {
+            MockHttpServletResponse response = mockMvc.perform(get(path))
+                    .andExpect(status().isOk())
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpConstants.Headers.ACCEPT_ENCODING)))
+                    .andExpect(header().exists(HttpHeaders.CACHE_CONTROL))
+                    .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andReturn().getResponse();
+            assertNotNull(response.getHeader(HttpHeaders.ETAG));
+        }
+    }
+
+    @Test
+    void ifNoneMatchReturnsNotModified() throws Exception {
+        for (String path : new String[]{byIdPath, "/experiences"}) {
+            String etag = mockMvc.perform(get(path)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpConstants.Headers.ACCEPT_ENCODING)))
+                    .andExpect(content().bytes(new byte[0]));
+            mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void ifModifiedSinceReturnsNotModified() throws Exception {
+        String lastModified = mockMvc.perform(get(byIdPath)).andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get(byIdPath).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(byIdPath).header(HttpHeaders.IF_MODIFIED_SINCE, "Thu, 01 Jan 1970 00:00:01 GMT"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void gzipVariantHasItsOwnEtag() throws Exception {
+        MockHttpServletResponse plain = mockMvc.perform(get(byIdPath)).andReturn().getResponse();
+        MockHttpServletResponse gzipped = mockMvc.perform(get(byIdPath)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, HttpConstants.Headers.GZIP))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpConstants.Headers.ACCEPT_ENCODING)))
+                .andReturn().getResponse();
+
+        String plainEtag = plain.getHeader(HttpHeaders.ETAG);
+        String gzipEtag = gzipped.getHeader(HttpHeaders.ETAG);
+        assertNotEquals(plainEtag, gzipEtag);
+        assertEquals(plainEtag.substring(0, plainEtag.length() - 1) + GZIP_ETAG_SUFFIX, gzipEtag);
+        assertArrayEquals(plain.getContentAsByteArray(), gunzip(gzipped.getContentAsByteArray()));
+
+        // ETag de uma variante não valida a outra
+        mockMvc.perform(get(byIdPath).header(HttpHeaders.ACCEPT_ENCODING, HttpConstants.Headers.GZIP)
+                        .header(HttpHeaders.IF_NONE_MATCH, plainEtag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(byIdPath).header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        MockHttpServletResponse notModified = mockMvc.perform(get(byIdPath)
+                        .header(HttpHeaders.ACCEPT_ENCODING, HttpConstants.Headers.GZIP)
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isNotModified())
+                .andReturn().getResponse();
+        assertEquals(gzipEtag, notModified.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void missingExperienceHasNoValidators() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/experiences/999999"))
+                .andExpect(status().isNotFound())
+                .andReturn().getResponse();
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.jonathanssm.portfoliobackend.controller;
+
+import com.jonathanssm.portfoliobackend.constants.DefaultConstants;
+import com.jonathanssm.portfoliobackend.dto.CursorPage;
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.model.Experience;
+import com.jonathanssm.portfoliobackend.repository.ExperienceRepository;
+import com.jonathanssm.portfoliobackend.service.ExperienceService;
+import com.jonathanssm.portfoliobackend.util.CursorCodec;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Paginação por cursor (startDate DESC, id DESC) de /experiences/paginated
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+class ExperiencePaginationTest {
+
+    private static final String PAGINATED = "/experiences/paginated";
+    private static final int TIED = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExperienceService experienceService;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Test
+    void pagesAcrossTiedStartDatesWithoutGapsOrDuplicates() {
+        // Datas no futuro distante: as experiências do teste ficam no topo do banco compartilhado
+        LocalDate tiedDate = LocalDate.of(3000, 1, 1);
+        Long newer = experience(tiedDate.plusDays(1));
+        List<Long> tied = new ArrayList<>();
+        for (int i = 0; i < TIED; i++) {
+            tied.add(experience(tiedDate));
+        }
+        Long older = experience(tiedDate.minusDays(1));
+
+        List<Long> expectedOrder = new ArrayList<>(List.of(newer));
+        expectedOrder.addAll(tied.reversed());
+        expectedOrder.add(older);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            // Tamanho 2: as fronteiras das páginas caem dentro do grupo de mesma startDate
+            CursorPage<ExperienceResponse> page = experienceService.getExperiencesPage(cursor, 2, false);
+            assertTrue(page.content().size() <= 2);
+            page.content().forEach(experience -> seen.add(experience.id()));
+            cursor = page.nextCursor();
+            assertEquals(page.hasNext(), cursor != null);
+        } while (cursor != null && !seen.contains(older));
+
+        assertEquals(seen.size(), new HashSet<>(seen).size());
+        assertEquals(expectedOrder, seen.stream().filter(Set.copyOf(expectedOrder)::contains).toList());
+        assertEquals(expectedOrder.indexOf(older), seen.indexOf(older) - seen.indexOf(newer));
+    }
+
+    @Test
+    void includesTotalOnlyWhenRequested() throws Exception {
+        experience(LocalDate.of(2020, 1, 1));
+
+        mockMvc.perform(get(PAGINATED).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+        mockMvc.perform(get(PAGINATED).param("size", "1").param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(experienceRepository.count()));
+    }
+
+    @Test
+    void rejectsInvalidOrTamperedCursor() throws Exception {
+        List<String> cursors = List.of(
+                "not-a-cursor!",
+                CursorCodec.encode("2020-01-01"),
+                CursorCodec.encode("2020-01-01", 1, 2),
+                CursorCodec.encode("yesterday", 1),
+                CursorCodec.encode("2020-01-01", "one"));
+
+        for (String cursor : cursors) {
+            assertThrows(IllegalArgumentException.class, () -> experienceService.getExperiencesPage(cursor, 10, false));
+            mockMvc.perform(get(PAGINATED).param("cursor", cursor))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void enforcesPageSizeBounds() throws Exception {
+        mockMvc.perform(get(PAGINATED).param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(PAGINATED).param("size", String.valueOf(DefaultConstants.Pagination.MAX_PAGE_SIZE + 1)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(PAGINATED).param("size", "abc"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(PAGINATED).param("size", String.valueOf(DefaultConstants.Pagination.MAX_PAGE_SIZE)))
+                .andExpect(status().isOk());
+
+        // Sem size: tamanho padrão
+        for (int i = 0; i <= DefaultConstants.Pagination.DEFAULT_PAGE_SIZE; i++) {
+            experience(LocalDate.of(2020, 1, 1));
+        }
+        mockMvc.perform(get(PAGINATED))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(DefaultConstants.Pagination.DEFAULT_PAGE_SIZE))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    private Long experience(LocalDate startDate) {
+        Experience experience = new Experience();
+        experience.setTitle("Paginated experience");
+        experience.setCompanyName("Paginated company");
+        experience.setStartDate(startDate);
+        return experienceRepository.save(experience).getId();
+    }
+}
@@ -0,0 +1,52 @@
+package com.jonathanssm.portfoliobackend.messaging;
+
+import com.jonathanssm.portfoliobackend.constants.KafkaConstants;
+import com.jonathanssm.portfoliobackend.model.event.Event;
+import com.jonathanssm.portfoliobackend.service.RateLimitingService;
+import com.jonathanssm.portfoliobackend.service.TokenRevocationService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AuthBroadcastConsumerTest {
+
+    private final RateLimitingService rateLimitingService = mock(RateLimitingService.class);
+    private final AuthBroadcastConsumer consumer =
+            new AuthBroadcastConsumer(mock(TokenRevocationService.class), rateLimitingService);
+
+    @Test
+    void appliesClientBlock() {
+        consumer.handleAuthEvent(blockRecord("IP", 5_000L));
+
+        verify(rateLimitingService).block(RateLimitingService.KeyType.IP, "10.0.0.1", 5_000L);
+    }
+
+    @Test
+    void skipsClientBlockWithUnknownKeyType() {
+        consumer.handleAuthEvent(blockRecord("DEVICE", 5_000L));
+
+        verify(rateLimitingService, never()).block(any(), anyString(), anyLong());
+        // O consumer segue processando os registros seguintes
+        consumer.handleAuthEvent(blockRecord("USER", 6_000L));
+        verify(rateLimitingService).block(RateLimitingService.KeyType.USER, "10.0.0.1", 6_000L);
+    }
+
+    private static ConsumerRecord<String, Event> blockRecord(String keyType, long blockedUntil) {
+        Event event = Event.builder()
+                .eventKey(KafkaConstants.EventKeys.AUTH_CLIENT_BLOCKED)
+                .payload(Map.of(
+                        KafkaConstants.EventFields.KEY_TYPE, keyType,
+                        KafkaConstants.EventFields.BLOCKED_VALUE, "10.0.0.1",
+                        KafkaConstants.EventFields.BLOCKED_UNTIL, blockedUntil))
+                .build();
+        return new ConsumerRecord<>(KafkaConstants.AUTH_TOPIC, 0, 0L, KafkaConstants.EventKeys.AUTH_CLIENT_BLOCKED, event);
+    }
+}
@@ -0,0 +1,71 @@
+package com.jonathanssm.portfoliobackend.messaging;
+
+import com.jonathanssm.portfoliobackend.constants.KafkaConstants;
+import com.jonathanssm.portfoliobackend.dto.ExperienceFilter;
+import com.jonathanssm.portfoliobackend.model.Experience;
+import com.jonathanssm.portfoliobackend.model.event.Event;
+import com.jonathanssm.portfoliobackend.repository.ExperienceRepository;
+import com.jonathanssm.portfoliobackend.service.ExperienceFilterIndex;
+import com.jonathanssm.portfoliobackend.service.ExperienceSnapshotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+class ExperienceBroadcastConsumerTest {
+
+    @Autowired
+    private ExperienceSnapshotService experienceSnapshotService;
+
+    @Autowired
+    private ExperienceFilterIndex experienceFilterIndex;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Test
+    void appliesWriteFromAnotherNodeToSnapshotAndFilterIndex() {
+        ExperienceFilter startedIn1999 = new ExperienceFilter(null, null, null,
+                LocalDate.of(1999, 1, 1), LocalDate.of(1999, 12, 31));
+        experienceSnapshotService.getAll();
+        experienceFilterIndex.findIds(startedIn1999);
+
+        // Escrita feita "em outra réplica": nenhum evento interno neste nó
+        Experience experience = new Experience();
+        experience.setTitle("Remote write");
+        experience.setCompanyName("Remote company");
+        experience.setStartDate(LocalDate.of(1999, 3, 1));
+        Long id = experienceRepository.save(experience).getId();
+        assertNull(experienceSnapshotService.getById(id));
+        assertFalse(experienceFilterIndex.findIds(startedIn1999).contains(id));
+
+        Event event = Event.builder()
+                .eventKey(KafkaConstants.EventKeys.EXPERIENCE_CREATED)
+                .payload(Map.of(KafkaConstants.EventFields.ID, id))
+                .build();
+        // Reenvia até o consumer (posicionado no fim ao ser atribuído) receber: a reconstrução é idempotente
+        await().atMost(Duration.ofSeconds(30)).pollInterval(Duration.ofMillis(500)).untilAsserted(() -> {
+            kafkaTemplate.send(KafkaConstants.EXPERIENCE_TOPIC, KafkaConstants.EventKeys.EXPERIENCE_CREATED, event);
+            assertNotNull(experienceSnapshotService.getById(id));
+            assertTrue(experienceFilterIndex.findIds(startedIn1999).contains(id));
+        });
+    }
+}
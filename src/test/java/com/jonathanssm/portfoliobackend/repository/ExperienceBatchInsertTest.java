@@ -0,0 +1,58 @@
+package com.jonathanssm.portfoliobackend.repository;
+
+import com.jonathanssm.portfoliobackend.model.Experience;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+class ExperienceBatchInsertTest {
+
+    private static final int ROWS = 1_000;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void insertsAreBatchedWithPooledSequenceIds() {
+        List<Experience> experiences = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Experience experience = new Experience();
+            experience.setTitle("Batch experience " + i);
+            experience.setCompanyName("Batch company");
+            experience.setStartDate(LocalDate.of(2020, 1, 1).plusDays(i));
+            experiences.add(experience);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> experienceRepository.saveAll(experiences));
+
+        long preparedStatements = statistics.getPrepareStatementCount();
+        assertEquals(ROWS, statistics.getEntityStatistics(Experience.class.getName()).getInsertCount());
+        // IDENTITY prepara um INSERT por linha; com pooled-lo são só os nextval (ROWS/50) e um statement por tabela em lote
+        assertTrue(preparedStatements < ROWS / 10, "Expected batched inserts, got " + preparedStatements + " JDBC statements");
+    }
+}
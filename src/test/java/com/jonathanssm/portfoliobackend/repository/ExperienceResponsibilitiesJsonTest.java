@@ -0,0 +1,105 @@
+package com.jonathanssm.portfoliobackend.repository;
+
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.model.Experience;
+import com.jonathanssm.portfoliobackend.service.ExperienceQueryService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+class ExperienceResponsibilitiesJsonTest {
+
+    private static final Set<String> UNICODE = Set.of("Liderança técnica", "日本語のレビュー", "Deploy 🚀",
+            "Aspas \"duplas\" e barra \\\\ invertida", "Linha\nquebrada");
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private ExperienceQueryService experienceQueryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void emptySetRoundTrips() {
+        Long id = save(new HashSet<>());
+
+        assertEquals(Set.of(), loadEntity(id));
+        assertEquals(Set.of(), loadProjection(id));
+        assertEquals("[]", rawColumn(id));
+    }
+
+    @Test
+    void nullIsStoredAsEmptyArray() {
+        Long id = save(null);
+
+        assertEquals(Set.of(), loadEntity(id));
+        assertEquals(Set.of(), loadProjection(id));
+        assertEquals("[]", rawColumn(id));
+    }
+
+    @Test
+    void nullOnUpdateIsStoredAsEmptyArray() {
+        Long id = save(new HashSet<>(Set.of("Design")));
+
+        transactionTemplate.executeWithoutResult(status ->
+                experienceRepository.findById(id).orElseThrow().setResponsibilities(null));
+
+        assertEquals(Set.of(), loadEntity(id));
+        assertEquals("[]", rawColumn(id));
+    }
+
+    @Test
+    void unicodeRoundTrips() {
+        Long id = save(new HashSet<>(UNICODE));
+
+        assertEquals(UNICODE, loadEntity(id));
+        assertEquals(UNICODE, loadProjection(id));
+    }
+
+    private Long save(Set<String> responsibilities) {
+        Experience experience = new Experience();
+        experience.setTitle("Responsibilities round trip");
+        experience.setCompanyName("JSON company");
+        experience.setStartDate(LocalDate.of(2020, 1, 1));
+        experience.setResponsibilities(responsibilities);
+        return experienceRepository.save(experience).getId();
+    }
+
+    private Set<String> loadEntity(Long id) {
+        return transactionTemplate.execute(status -> {
+            entityManager.clear();
+            return new HashSet<>(experienceRepository.findById(id).orElseThrow().getResponsibilities());
+        });
+    }
+
+    private Set<String> loadProjection(Long id) {
+        List<ExperienceResponse> experiences = experienceQueryService.findAllByIds(List.of(id));
+        return new HashSet<>(experiences.get(0).responsibilities());
+    }
+
+    private String rawColumn(Long id) {
+        return transactionTemplate.execute(status -> (String) entityManager
+                .createNativeQuery("SELECT CAST(responsibilities AS VARCHAR) FROM portfolio.experiences WHERE id = :id")
+                .setParameter("id", id)
+                .getSingleResult());
+    }
+}
@@ -0,0 +1,139 @@
+package com.jonathanssm.portfoliobackend.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.jonathanssm.portfoliobackend.model.Experience;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.format.FormatMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Conversão de responsibilities por linha: mapeamento JSON do Hibernate (@JdbcTypeCode(SqlTypes.JSON))
+ * contra o antigo StringSetJsonConverter (JSON em TEXT), em escrita e leitura
+ * <p>
+ * Mede o trabalho da aplicação por linha, que é o que difere entre os dois mapeamentos; o custo do
+ * tipo no banco (jsonb vs TEXT) depende do Postgres e não é reproduzível no H2.
+ * Opcional: mvn test -Dtest=ResponsibilitiesJsonBenchmarkTest -Dbenchmark=true
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ResponsibilitiesJsonBenchmarkTest {
+
+    private static final int[] SET_SIZES = {0, 5, 50};
+    private static final int CONVERSIONS = 200_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void jsonMappingVersusConverter() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        FormatMapper formatMapper = sessionFactory.getSessionFactoryOptions().getJsonFormatMapper();
+        WrapperOptions options = sessionFactory.getWrapperOptions();
+        BasicValuedModelPart attribute = (BasicValuedModelPart) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(Experience.class).findAttributeMapping("responsibilities");
+        @SuppressWarnings("unchecked")
+        JavaType<Set<String>> javaType = (JavaType<Set<String>>) attribute.getJdbcMapping().getJavaTypeDescriptor();
+        LegacyStringSetJsonConverter converter = new LegacyStringSetJsonConverter();
+
+        for (int size : SET_SIZES) {
+            Set<String> responsibilities = IntStream.range(0, size)
+                    .mapToObj(i -> "Responsabilidade técnica nº " + i)
+                    .collect(Collectors.toCollection(HashSet::new));
+            String json = formatMapper.toString(responsibilities, javaType, options);
+            assertEquals(responsibilities, converter.convertToEntityAttribute(json));
+            assertEquals(responsibilities, formatMapper.fromString(converter.convertToDatabaseColumn(responsibilities), javaType, options));
+
+            long mappingWrite = medianMillis(responsibilities, value -> formatMapper.toString(value, javaType, options));
+            long converterWrite = medianMillis(responsibilities, converter::convertToDatabaseColumn);
+            long mappingRead = medianMillis(json, value -> formatMapper.fromString(value, javaType, options));
+            long converterRead = medianMillis(json, converter::convertToEntityAttribute);
+            log.info("⏱️ [BENCHMARK] {} x {} responsibilities | write: JSON mapping {} ms, converter {} ms"
+                            + " | read: JSON mapping {} ms, converter {} ms",
+                    CONVERSIONS, size, mappingWrite, converterWrite, mappingRead, converterRead);
+        }
+    }
+
+    private static <T> long medianMillis(T input, Function<T, ?> conversion) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run(input, conversion);
+        }
+        long[] runs = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            run(input, conversion);
+            runs[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(runs);
+        return runs[MEASURED_RUNS / 2];
+    }
+
+    private static <T> void run(T input, Function<T, ?> conversion) {
+        int hash = 0;
+        for (int i = 0; i < CONVERSIONS; i++) {
+            hash += conversion.apply(input).hashCode();
+        }
+        // Consome o resultado para que o JIT não elimine as conversões
+        if (hash == 42) {
+            log.trace("{}", List.of(hash));
+        }
+    }
+
+    /**
+     * Conversor anterior ao mapeamento JSON, mantido aqui apenas como referência de desempenho
+     */
+    private static final class LegacyStringSetJsonConverter {
+
+        private static final ObjectMapper objectMapper = new ObjectMapper();
+
+        String convertToDatabaseColumn(Set<String> attribute) {
+            if (attribute == null || attribute.isEmpty()) {
+                return "[]";
+            }
+            try {
+                return objectMapper.writeValueAsString(attribute);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Erro ao serializar Set<String> para JSON", e);
+            }
+        }
+
+        Set<String> convertToEntityAttribute(String dbData) {
+            if (dbData == null || dbData.isEmpty() || "[]".equals(dbData)) {
+                return new HashSet<>();
+            }
+            try {
+                CollectionType setType = objectMapper.getTypeFactory().constructCollectionType(Set.class, String.class);
+                return objectMapper.readValue(dbData, setType);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Erro ao desserializar JSON para Set<String>", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.model.User;
+import com.jonathanssm.portfoliobackend.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+class AuthServiceConnectionTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoSpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void loginReleasesConnectionBeforeHashing() throws SQLException {
+        User user = new User();
+        user.setUsername("connection-test");
+        user.setEmail("connection-test@example.com");
+        user.setPassword(passwordEncoder.encode("secret-password"));
+        userRepository.save(user);
+
+        HikariDataSource hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+        AtomicInteger activeDuringHash = new AtomicInteger(-1);
+        doAnswer(invocation -> {
+            activeDuringHash.set(hikariDataSource.getHikariPoolMXBean().getActiveConnections());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(any(), anyString());
+
+        AuthService.LoginResult result = authService.login("connection-test", "secret-password", "127.0.0.1", "test");
+
+        assertNotNull(result.accessToken());
+        assertEquals(0, activeDuringHash.get(), "No JDBC connection should be held while BCrypt runs");
+    }
+}
@@ -0,0 +1,188 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.dto.ExperienceBulkDeleteResponse;
+import com.jonathanssm.portfoliobackend.model.Experience;
+import com.jonathanssm.portfoliobackend.model.Technology;
+import com.jonathanssm.portfoliobackend.model.TechnologyType;
+import com.jonathanssm.portfoliobackend.repository.ExperienceRepository;
+import com.jonathanssm.portfoliobackend.repository.TechnologyRepository;
+import com.jonathanssm.portfoliobackend.repository.TechnologyTypeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.query.AuditEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+class ExperienceDeleteAuditTest {
+
+    private static final long MISSING_ID = 999_999L;
+
+    @Autowired
+    private ExperienceService experienceService;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @Autowired
+    private TechnologyTypeRepository technologyTypeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Histórico visto pelo AuditReader após a remoção de uma experiência
+     *
+     * @param revisionTypes          Tipos de revisão da experiência, em ordem
+     * @param modifiedTechnologies   Tecnologias com linha MOD na revisão da remoção
+     * @param linkedBeforeDelete     Tecnologias associadas na revisão anterior à remoção
+     * @param stillLinkedAfterDelete Tecnologias que ainda apontam para a experiência na revisão da remoção
+     */
+    private record DeleteHistory(List<RevisionType> revisionTypes, Set<Long> modifiedTechnologies,
+                                 Set<Long> linkedBeforeDelete, Set<Long> stillLinkedAfterDelete) {
+    }
+
+    @Test
+    void bulkDeletesWriteSameAuditHistoryAsEntityDeletes() {
+        TechnologyType type = new TechnologyType();
+        type.setName("Audit type");
+        technologyTypeRepository.save(type);
+        Technology java = technology("Audit Java", type);
+        Technology spring = technology("Audit Spring", type);
+
+        Long entityDeleted = experience("Entity delete", java, spring);
+        Long singleDeleted = experience("Single delete", java, spring);
+        Long bulkDeleted = experience("Bulk delete", java, spring);
+        Long bulkDeletedWithoutTechnologies = experience("Bulk delete without technologies");
+        Long secondBulkDeleted = experience("Second bulk delete", spring);
+
+        transactionTemplate.executeWithoutResult(status -> experienceRepository.deleteById(entityDeleted));
+        experienceService.deleteExperience(singleDeleted);
+        ExperienceBulkDeleteResponse response = transactionTemplate.execute(status -> {
+            ExperienceBulkDeleteResponse first = experienceService.deleteExperiences(
+                    List.of(bulkDeleted, bulkDeletedWithoutTechnologies, MISSING_ID));
+            experienceService.deleteExperiences(List.of(secondBulkDeleted));
+            return first;
+        });
+
+        assertEquals(2, response.deleted());
+        assertEquals(List.of(MISSING_ID), response.notFoundIds());
+
+        DeleteHistory expected = history(entityDeleted);
+        assertEquals(List.of(RevisionType.ADD, RevisionType.DEL), expected.revisionTypes());
+        assertEquals(Set.of(java.getId(), spring.getId()), expected.modifiedTechnologies());
+        assertEquals(Set.of(java.getId(), spring.getId()), expected.linkedBeforeDelete());
+        assertEquals(Set.of(), expected.stillLinkedAfterDelete());
+
+        assertEquals(expected, history(singleDeleted));
+        assertEquals(expected, history(bulkDeleted));
+        // Mesma revisão de bulkDeleted: as tecnologias modificadas são as dela
+        DeleteHistory withoutTechnologies = history(bulkDeletedWithoutTechnologies);
+        assertEquals(expected.revisionTypes(), withoutTechnologies.revisionTypes());
+        assertEquals(Set.of(), withoutTechnologies.linkedBeforeDelete());
+
+        // Exclusões em lote da mesma transação compartilham a revisão
+        assertEquals(deleteRevision(bulkDeleted), deleteRevision(secondBulkDeleted));
+    }
+
+    @Test
+    void missingIdLeavesNoRevision() {
+        Number lastRevision = transactionTemplate.execute(status -> auditReader().getRevisionNumberForDate(new Date()));
+
+        assertThrows(EntityNotFoundException.class, () -> experienceService.deleteExperience(MISSING_ID));
+
+        assertEquals(lastRevision, transactionTemplate.execute(status -> auditReader().getRevisionNumberForDate(new Date())));
+    }
+
+    private DeleteHistory history(Long experienceId) {
+        return transactionTemplate.execute(status -> {
+            AuditReader reader = auditReader();
+            @SuppressWarnings("unchecked")
+            List<Object[]> revisions = reader.createQuery()
+                    .forRevisionsOfEntity(Experience.class, false, true)
+                    .add(AuditEntity.id().eq(experienceId))
+                    .addOrder(AuditEntity.revisionNumber().asc())
+                    .getResultList();
+            List<RevisionType> revisionTypes = revisions.stream().map(row -> (RevisionType) row[2]).toList();
+            int deleteRevision = ((DefaultRevisionEntity) revisions.get(revisions.size() - 1)[1]).getId();
+            int previousRevision = ((DefaultRevisionEntity) revisions.get(revisions.size() - 2)[1]).getId();
+
+            Set<Long> linkedBeforeDelete = reader.find(Experience.class, experienceId, previousRevision)
+                    .getTechnologies().stream().map(Technology::getId).collect(Collectors.toSet());
+
+            @SuppressWarnings("unchecked")
+            List<Technology> modified = reader.createQuery()
+                    .forEntitiesModifiedAtRevision(Technology.class, deleteRevision)
+                    .getResultList();
+            Set<Long> stillLinked = modified.stream()
+                    .filter(technology -> technology.getExperiences().stream()
+                            .anyMatch(experience -> experience.getId().equals(experienceId)))
+                    .map(Technology::getId)
+                    .collect(Collectors.toSet());
+
+            // Snapshot MOD igual ao estado atual da tecnologia
+            for (Technology technology : modified) {
+                Technology current = technologyRepository.findById(technology.getId()).orElseThrow();
+                assertEquals(current.getName(), technology.getName());
+                assertEquals(current.getType().getId(), technology.getType().getId());
+            }
+
+            return new DeleteHistory(revisionTypes, modified.stream().map(Technology::getId).collect(Collectors.toSet()),
+                    linkedBeforeDelete, stillLinked);
+        });
+    }
+
+    private int deleteRevision(Long experienceId) {
+        return transactionTemplate.execute(status -> {
+            List<Number> revisions = auditReader().getRevisions(Experience.class, experienceId);
+            return revisions.get(revisions.size() - 1).intValue();
+        });
+    }
+
+    private AuditReader auditReader() {
+        return AuditReaderFactory.get(entityManager);
+    }
+
+    private Technology technology(String name, TechnologyType type) {
+        Technology technology = new Technology();
+        technology.setName(name);
+        technology.setType(type);
+        technology.setVersion(1L);
+        return technologyRepository.save(technology);
+    }
+
+    private Long experience(String title, Technology... technologies) {
+        Experience experience = new Experience();
+        experience.setTitle(title);
+        experience.setCompanyName("Audit company");
+        experience.setStartDate(LocalDate.of(2020, 1, 1));
+        experience.setTechnologies(new HashSet<>(Set.of(technologies)));
+        return experienceRepository.save(experience).getId();
+    }
+}
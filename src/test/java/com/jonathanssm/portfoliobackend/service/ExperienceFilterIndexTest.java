@@ -0,0 +1,102 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.dto.ExperienceFilter;
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.model.event.ExperienceChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExperienceFilterIndexTest {
+
+    private static final ExperienceResponse.TechnologyResponse JAVA = technology(1L, "Backend");
+    private static final ExperienceResponse.TechnologyResponse SPRING = technology(2L, "Backend");
+    private static final ExperienceResponse.TechnologyResponse REACT = technology(3L, "Frontend");
+
+    private final ExperienceQueryService experienceQueryService = mock(ExperienceQueryService.class);
+    private final ExperienceFilterIndex index = new ExperienceFilterIndex(experienceQueryService);
+
+    @BeforeEach
+    void setUp() {
+        when(experienceQueryService.findAll()).thenReturn(List.of(
+                experience(1L, LocalDate.of(2020, 1, 1), false, Set.of(JAVA, SPRING)),
+                experience(2L, LocalDate.of(2021, 6, 15), false, Set.of(JAVA, REACT)),
+                experience(3L, LocalDate.of(2021, 6, 15), true, Set.of(JAVA)),
+                experience(4L, LocalDate.of(2022, 3, 10), true, Set.of(REACT)),
+                experience(5L, LocalDate.of(2023, 1, 1), true, Set.of(JAVA, SPRING, REACT))));
+    }
+
+    @Test
+    void combinesCriteriaAsIntersection() {
+        assertEquals(List.of(5L, 1L), index.findIds(filter(Set.of(1L, 2L), null, null, null, null)));
+        assertEquals(List.of(5L, 3L), index.findIds(filter(Set.of(1L), null, true, null, null)));
+        assertEquals(List.of(5L, 2L), index.findIds(filter(null, Set.of(" backend ", "FRONTEND"), null, null, null)));
+        assertEquals(List.of(2L), index.findIds(filter(Set.of(3L), null, false, LocalDate.of(2021, 1, 1), null)));
+        assertEquals(List.of(), index.findIds(filter(Set.of(99L), null, null, null, null)));
+        // Sem critérios: todas, por startDate DESC e id DESC no empate
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), index.findIds(filter(null, null, null, null, null)));
+    }
+
+    @Test
+    void dateRangeBoundsAreInclusive() {
+        LocalDate day = LocalDate.of(2021, 6, 15);
+
+        assertEquals(List.of(3L, 2L), index.findIds(filter(null, null, null, day, day)));
+        assertEquals(List.of(1L), index.findIds(filter(null, null, null, null, day.minusDays(1))));
+        assertEquals(List.of(5L, 4L), index.findIds(filter(null, null, null, day.plusDays(1), null)));
+        // Mesmas faixas resolvidas sobre bitmaps (com critério de tecnologia)
+        assertEquals(List.of(3L, 2L), index.findIds(filter(Set.of(1L), null, null, day, day)));
+        assertEquals(List.of(5L, 3L, 2L), index.findIds(filter(Set.of(1L), null, null, day, LocalDate.of(2023, 1, 1))));
+        assertEquals(List.of(), index.findIds(filter(Set.of(1L), null, null, day.plusDays(1), LocalDate.of(2022, 12, 31))));
+    }
+
+    @Test
+    void updateReplacesPreviousIndexEntries() {
+        assertEquals(List.of(5L, 3L, 2L, 1L), index.findIds(filter(Set.of(1L), null, null, null, null)));
+
+        ExperienceResponse updated = experience(3L, LocalDate.of(2019, 5, 5), false, Set.of(REACT));
+        when(experienceQueryService.findAllByIds(List.of(3L))).thenReturn(List.of(updated));
+        index.onExperienceChanged(new ExperienceChangedEvent(3L));
+
+        assertEquals(List.of(5L, 2L, 1L), index.findIds(filter(Set.of(1L), null, null, null, null)));
+        assertEquals(List.of(5L, 4L, 2L, 3L), index.findIds(filter(Set.of(3L), null, null, null, null)));
+        assertEquals(List.of(5L, 4L), index.findIds(filter(null, null, true, null, null)));
+        assertEquals(List.of(2L), index.findIds(filter(null, null, null, LocalDate.of(2021, 6, 15), LocalDate.of(2021, 6, 15))));
+        assertEquals(List.of(3L), index.findIds(filter(null, null, null, null, LocalDate.of(2019, 12, 31))));
+        assertEquals(5, index.getIndexedCount());
+    }
+
+    @Test
+    void deletedExperienceIsUnindexed() {
+        index.findIds(filter(null, null, null, null, null));
+
+        when(experienceQueryService.findAllByIds(List.of(5L))).thenReturn(List.of());
+        index.onExperienceChanged(new ExperienceChangedEvent(5L));
+
+        assertEquals(List.of(1L), index.findIds(filter(Set.of(2L), null, null, null, null)));
+        assertEquals(List.of(4L, 3L, 2L, 1L), index.findIds(filter(null, null, null, null, null)));
+        assertEquals(4, index.getIndexedCount());
+    }
+
+    private static ExperienceFilter filter(Set<Long> technologyIds, Set<String> technologyTypes, Boolean current,
+                                           LocalDate startFrom, LocalDate startTo) {
+        return new ExperienceFilter(technologyIds, technologyTypes, current, startFrom, startTo);
+    }
+
+    private static ExperienceResponse experience(Long id, LocalDate startDate, boolean current,
+                                                 Set<ExperienceResponse.TechnologyResponse> technologies) {
+        return new ExperienceResponse(id, "Experience " + id, "Company", null, null, startDate,
+                current ? null : startDate.plusYears(1), current, technologies, Set.of(), null, null);
+    }
+
+    private static ExperienceResponse.TechnologyResponse technology(Long id, String type) {
+        return new ExperienceResponse.TechnologyResponse(id, "Technology " + id, null, type, 0L);
+    }
+}
@@ -0,0 +1,209 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.dto.ExperienceImportResponse;
+import com.jonathanssm.portfoliobackend.dto.projection.ExperienceTechnologyRow;
+import com.jonathanssm.portfoliobackend.model.Experience;
+import com.jonathanssm.portfoliobackend.model.Technology;
+import com.jonathanssm.portfoliobackend.model.TechnologyType;
+import com.jonathanssm.portfoliobackend.repository.ExperienceRepository;
+import com.jonathanssm.portfoliobackend.repository.TechnologyRepository;
+import com.jonathanssm.portfoliobackend.repository.TechnologyTypeRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.envers.AuditReaderFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+class ExperienceImportServiceTest {
+
+    @Autowired
+    private ExperienceImportService experienceImportService;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @Autowired
+    private TechnologyTypeRepository technologyTypeRepository;
+
+    @Autowired
+    private TechnologyCatalog technologyCatalog;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    private Technology java;
+    private Technology spring;
+
+    @BeforeEach
+    void setUp() {
+        TechnologyType type = new TechnologyType();
+        type.setName("Import type " + System.nanoTime());
+        technologyTypeRepository.save(type);
+        java = technology("Import Java", type);
+        spring = technology("Import Spring", type);
+        technologyCatalog.reload();
+    }
+
+    @Test
+    void importsMoreThanBatchSizeWithSharedTechnologies() {
+        int count = batchSize * 2 + 10;
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(item("Shared technologies " + i, java.getId(), spring.getId()));
+        }
+
+        ExperienceImportResponse response = experienceImportService.importExperiences(jsonArray(items));
+
+        assertEquals(count, response.imported());
+        Map<Long, Set<Long>> technologiesByExperience = experienceRepository
+                .findTechnologyRowsByExperienceIdIn(response.ids()).stream()
+                .collect(Collectors.groupingBy(ExperienceTechnologyRow::experienceId,
+                        Collectors.mapping(ExperienceTechnologyRow::technologyId, Collectors.toSet())));
+        for (Long id : response.ids()) {
+            assertEquals(Set.of(java.getId(), spring.getId()), technologiesByExperience.get(id));
+        }
+        // Uma revisão para toda a importação
+        Set<Number> revisions = transactionTemplate.execute(status -> response.ids().stream()
+                .flatMap(id -> AuditReaderFactory.get(entityManager).getRevisions(Experience.class, id).stream())
+                .collect(Collectors.toSet()));
+        assertEquals(1, revisions.size());
+        // Lado inverso auditado: as tecnologias compartilhadas (proxies desanexados a cada lote) ganham MOD nessa revisão
+        Number revision = revisions.iterator().next();
+        for (Technology technology : List.of(java, spring)) {
+            List<Number> technologyRevisions = transactionTemplate.execute(status ->
+                    AuditReaderFactory.get(entityManager).getRevisions(Technology.class, technology.getId()));
+            assertTrue(technologyRevisions.contains(revision), technologyRevisions.toString());
+        }
+    }
+
+    @Test
+    void invalidItemRollsBackWholeImport() {
+        long before = experienceRepository.count();
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < batchSize + 10; i++) {
+            items.add(item("Rolled back " + i, java.getId()));
+        }
+        // Depois do primeiro flush do lote: as linhas já enviadas também precisam ser desfeitas
+        items.add("{\"companyName\": \"Import company\", \"projectName\": \"Import project\", \"startDate\": \"2020-01-01\"}");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> experienceImportService.importExperiences(jsonArray(items)));
+
+        assertTrue(exception.getMessage().contains("[" + (batchSize + 10) + "].title"), exception.getMessage());
+        assertEquals(before, experienceRepository.count());
+    }
+
+    @Test
+    void unknownTechnologyRollsBackWholeImport() {
+        long before = experienceRepository.count();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> experienceImportService.importExperiences(jsonArray(List.of(
+                        item("Known technology", java.getId()),
+                        item("Unknown technology", 999_999L)))));
+
+        assertTrue(exception.getMessage().contains("[1].technologyIds: unknown technology 999999"), exception.getMessage());
+        assertEquals(before, experienceRepository.count());
+    }
+
+    @Test
+    void acceptsNdjsonLikeArray() {
+        String ndjson = String.join("\n", item("NDJSON 0", java.getId()), item("NDJSON 1"), "");
+
+        ExperienceImportResponse response = experienceImportService.importExperiences(stream(ndjson));
+
+        assertEquals(2, response.imported());
+        List<String> titles = experienceRepository.findAllById(response.ids()).stream().map(Experience::getTitle).toList();
+        assertTrue(titles.containsAll(List.of("NDJSON 0", "NDJSON 1")), titles.toString());
+    }
+
+    @Test
+    void rejectsImportAboveMaxItems() {
+        ExperienceImportService target = AopTestUtils.getTargetObject(experienceImportService);
+        Object maxItems = ReflectionTestUtils.getField(target, "maxItems");
+        ReflectionTestUtils.setField(target, "maxItems", 2);
+        try {
+            long before = experienceRepository.count();
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> experienceImportService.importExperiences(jsonArray(List.of(
+                            item("Limit 0"), item("Limit 1"), item("Limit 2")))));
+
+            assertEquals("Import exceeds the maximum of 2 experiences", exception.getMessage());
+            assertEquals(before, experienceRepository.count());
+        } finally {
+            ReflectionTestUtils.setField(target, "maxItems", maxItems);
+        }
+    }
+
+    @Test
+    void stopsReadingAtMaxErrors() {
+        ExperienceImportService target = AopTestUtils.getTargetObject(experienceImportService);
+        Object maxErrors = ReflectionTestUtils.getField(target, "maxErrors");
+        ReflectionTestUtils.setField(target, "maxErrors", 2);
+        try {
+            String invalid = "{\"companyName\": \"Import company\", \"projectName\": \"Import project\", \"startDate\": \"2020-01-01\"}";
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> experienceImportService.importExperiences(jsonArray(List.of(invalid, invalid, invalid, invalid))));
+
+            assertEquals("Invalid experiences: [0].title: Title is mandatory; [1].title: Title is mandatory",
+                    exception.getMessage());
+        } finally {
+            ReflectionTestUtils.setField(target, "maxErrors", maxErrors);
+        }
+    }
+
+    private static String item(String title, Long... technologyIds) {
+        String technologies = List.of(technologyIds).stream().map(String::valueOf).collect(Collectors.joining(", "));
+        return "{\"title\": \"" + title + "\", \"companyName\": \"Import company\", \"projectName\": \"Import project\","
+                + " \"startDate\": \"2020-01-01\", \"responsibilities\": [\"Import\"], \"technologyIds\": [" + technologies + "]}";
+    }
+
+    private static ByteArrayInputStream jsonArray(List<String> items) {
+        return stream("[" + String.join(",", items) + "]");
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Technology technology(String name, TechnologyType type) {
+        Technology technology = new Technology();
+        technology.setName(name + " " + System.nanoTime());
+        technology.setType(type);
+        technology.setVersion(1L);
+        return technologyRepository.save(technology);
+    }
+}
@@ -0,0 +1,170 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jonathanssm.portfoliobackend.dto.ExperienceRequest;
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.messaging.ExperienceProducer;
+import com.jonathanssm.portfoliobackend.model.Experience;
+import com.jonathanssm.portfoliobackend.model.Technology;
+import com.jonathanssm.portfoliobackend.model.TechnologyType;
+import com.jonathanssm.portfoliobackend.repository.ExperienceRepository;
+import com.jonathanssm.portfoliobackend.repository.TechnologyRepository;
+import com.jonathanssm.portfoliobackend.repository.TechnologyTypeRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.envers.AuditReaderFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+class ExperiencePatchTest {
+
+    @Autowired
+    private ExperienceService experienceService;
+
+    @MockitoSpyBean
+    private ExperienceRepository experienceRepository;
+
+    @MockitoSpyBean
+    private ExperienceProducer experienceProducer;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @Autowired
+    private TechnologyTypeRepository technologyTypeRepository;
+
+    @Autowired
+    private TechnologyCatalog technologyCatalog;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Technology java;
+    private Technology spring;
+    private Long experienceId;
+
+    @BeforeEach
+    void setUp() {
+        TechnologyType type = new TechnologyType();
+        type.setName("Patch type " + System.nanoTime());
+        technologyTypeRepository.save(type);
+        java = technology("Patch Java", type);
+        spring = technology("Patch Spring", type);
+        technologyCatalog.reload();
+
+        Experience experience = new Experience();
+        experience.setTitle("Patch target");
+        experience.setCompanyName("Patch company");
+        experience.setProjectName("Patch project");
+        experience.setStartDate(LocalDate.of(2020, 1, 1));
+        experience.setResponsibilities(new HashSet<>(Set.of("Design")));
+        experience.setTechnologies(new HashSet<>(Set.of(java, spring)));
+        experienceId = experienceRepository.save(experience).getId();
+        clearInvocations(experienceRepository, experienceProducer);
+    }
+
+    @Test
+    void absentTechnologyIdsKeepTechnologies() throws Exception {
+        ExperienceResponse response = patch("{\"title\": \"Patched title\"}");
+
+        assertEquals("Patched title", response.title());
+        assertEquals(Set.of(java.getId(), spring.getId()), technologyIds(response));
+        assertEquals(Set.of(java.getId(), spring.getId()), storedTechnologyIds());
+    }
+
+    @Test
+    void explicitNullTechnologyIdsClearTechnologies() throws Exception {
+        ExperienceResponse response = patch("{\"technologyIds\": null}");
+
+        assertEquals(Set.of(), technologyIds(response));
+        assertEquals(Set.of(), storedTechnologyIds());
+        assertEquals("Patch target", response.title());
+    }
+
+    @Test
+    void technologyIdsReplaceTechnologies() throws Exception {
+        ExperienceResponse response = patch("{\"technologyIds\": [" + spring.getId() + "]}");
+
+        assertEquals(Set.of(spring.getId()), technologyIds(response));
+        assertEquals(Set.of(spring.getId()), storedTechnologyIds());
+        verify(experienceRepository).saveAndFlush(any());
+        verify(experienceProducer).sendExperienceUpdated(any());
+    }
+
+    @Test
+    void explicitNullClearsOtherFields() throws Exception {
+        ExperienceResponse response = patch("{\"projectName\": \"Kept\", \"responsibilities\": null}");
+
+        assertEquals("Kept", response.projectName());
+        assertEquals(Set.of(java.getId(), spring.getId()), technologyIds(response));
+        assertEquals(Set.of(), response.responsibilities());
+    }
+
+    @Test
+    void noOpUpdateSkipsWriteAuditAndEvents() throws Exception {
+        int revisions = revisionCount();
+
+        patch("{\"title\": \"Patch target\", \"technologyIds\": [" + java.getId() + ", " + spring.getId() + "]}");
+        experienceService.updateExperience(experienceId, new ExperienceRequest("Patch target", "Patch company",
+                "Patch project", null, LocalDate.of(2020, 1, 1), null, false,
+                Set.of(java.getId(), spring.getId()), Set.of("Design")));
+
+        verify(experienceRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(experienceProducer);
+        assertEquals(revisions, revisionCount());
+    }
+
+    private ExperienceResponse patch(String json) throws Exception {
+        return experienceService.patchExperience(experienceId, objectMapper.readTree(json));
+    }
+
+    private static Set<Long> technologyIds(ExperienceResponse response) {
+        return response.technologies().stream()
+                .map(ExperienceResponse.TechnologyResponse::id)
+                .collect(Collectors.toSet());
+    }
+
+    private Set<Long> storedTechnologyIds() {
+        return transactionTemplate.execute(status -> experienceRepository.findById(experienceId).orElseThrow()
+                .getTechnologies().stream().map(Technology::getId).collect(Collectors.toSet()));
+    }
+
+    private int revisionCount() {
+        return transactionTemplate.execute(status ->
+                AuditReaderFactory.get(entityManager).getRevisions(Experience.class, experienceId).size());
+    }
+
+    private Technology technology(String name, TechnologyType type) {
+        Technology technology = new Technology();
+        technology.setName(name + " " + System.nanoTime());
+        technology.setType(type);
+        technology.setVersion(1L);
+        return technologyRepository.save(technology);
+    }
+}
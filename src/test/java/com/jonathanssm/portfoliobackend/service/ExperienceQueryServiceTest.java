@@ -0,0 +1,110 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.dto.mapper.ExperienceMapper;
+import com.jonathanssm.portfoliobackend.model.Experience;
+import com.jonathanssm.portfoliobackend.model.Technology;
+import com.jonathanssm.portfoliobackend.model.TechnologyType;
+import com.jonathanssm.portfoliobackend.repository.ExperienceRepository;
+import com.jonathanssm.portfoliobackend.repository.TechnologyRepository;
+import com.jonathanssm.portfoliobackend.repository.TechnologyTypeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+class ExperienceQueryServiceTest {
+
+    // Caminho anterior às projeções: entidades com fetch join + ExperienceMapper
+    static final String FETCH_JOIN_QUERY = """
+            SELECT e FROM Experience e LEFT JOIN FETCH e.technologies t LEFT JOIN FETCH t.type
+            ORDER BY e.startDate DESC, e.id DESC
+            """;
+
+    @Autowired
+    private ExperienceQueryService experienceQueryService;
+
+    @Autowired
+    private ExperienceMapper experienceMapper;
+
+    @Autowired
+    private TechnologyCatalog technologyCatalog;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @Autowired
+    private TechnologyTypeRepository technologyTypeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void projectionProducesSameJsonAsEntityMapping() throws Exception {
+        TechnologyType type = new TechnologyType();
+        type.setName("Query type");
+        technologyTypeRepository.save(type);
+        List<Technology> technologies = new ArrayList<>();
+        for (String name : List.of("Zig", "Java", "Kotlin", "Go")) {
+            Technology technology = new Technology();
+            technology.setName("Query " + name);
+            technology.setType(type);
+            technology.setVersion(1L);
+            technologies.add(technologyRepository.save(technology));
+        }
+        technologyCatalog.reload();
+
+        List<Experience> experiences = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Experience experience = new Experience();
+            experience.setTitle("Query experience " + i);
+            experience.setCompanyName("Query company");
+            experience.setProjectName(i % 2 == 0 ? "Project " + i : null);
+            experience.setDescription(i % 3 == 0 ? null : "Descrição com acentuação " + i);
+            // Datas repetidas: a ordem depende do desempate por id
+            experience.setStartDate(LocalDate.of(2015, 1, 1).plusMonths(i / 3));
+            experience.setEndDate(i % 4 == 0 ? null : LocalDate.of(2024, 1, 1));
+            experience.setCurrent(i % 4 == 0);
+            experience.setResponsibilities(i % 5 == 0 ? null : new HashSet<>(Set.of("Design " + i, "Review")));
+            experience.setTechnologies(new HashSet<>(technologies.subList(0, i % (technologies.size() + 1))));
+            experiences.add(experience);
+        }
+        experienceRepository.saveAll(experiences);
+
+        String projected = objectMapper.writeValueAsString(experienceQueryService.findAll());
+        String mapped = objectMapper.writeValueAsString(findAllWithEntities());
+
+        assertEquals(mapped, projected);
+    }
+
+    private List<ExperienceResponse> findAllWithEntities() {
+        return transactionTemplate.execute(status -> entityManager.createQuery(FETCH_JOIN_QUERY, Experience.class)
+                .getResultStream()
+                .map(experience -> experienceMapper.toResponse(experience, technologyCatalog))
+                .toList());
+    }
+}
@@ -0,0 +1,159 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.dto.mapper.ExperienceMapper;
+import com.jonathanssm.portfoliobackend.model.Experience;
+import com.jonathanssm.portfoliobackend.model.Technology;
+import com.jonathanssm.portfoliobackend.model.TechnologyType;
+import com.jonathanssm.portfoliobackend.repository.ExperienceRepository;
+import com.jonathanssm.portfoliobackend.repository.TechnologyRepository;
+import com.jonathanssm.portfoliobackend.repository.TechnologyTypeRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Leitura completa de experiências: projeções (ExperienceQueryService) contra entidades com fetch
+ * join + ExperienceMapper, em 1k/10k/100k linhas
+ * <p>
+ * Opcional (mvn test -Dtest=ExperienceReadBenchmarkTest -Dbenchmark=true): popula o banco com
+ * 100k experiências, então o contexto é descartado ao final.
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ExperienceReadBenchmarkTest {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int TECHNOLOGIES = 20;
+    private static final int TECHNOLOGIES_PER_EXPERIENCE = 3;
+    private static final int INSERT_CHUNK = 2_000;
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+
+    @Autowired
+    private ExperienceQueryService experienceQueryService;
+
+    @Autowired
+    private ExperienceMapper experienceMapper;
+
+    @Autowired
+    private TechnologyCatalog technologyCatalog;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @Autowired
+    private TechnologyTypeRepository technologyTypeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void projectionVersusEntityMapping() {
+        List<Technology> technologies = technologies();
+        int baseline = (int) experienceRepository.count();
+
+        int inserted = 0;
+        for (int size : SIZES) {
+            insert(technologies, inserted, size - inserted);
+            inserted = size;
+
+            int expected = baseline + size;
+            long projection = medianMillis(expected, experienceQueryService::findAll);
+            long entities = medianMillis(expected, this::findAllWithEntities);
+            log.info("⏱️ [BENCHMARK] {} experiences: projection {} ms, fetch join + mapper {} ms",
+                    size, projection, entities);
+        }
+    }
+
+    private long medianMillis(int expectedSize, Supplier<List<ExperienceResponse>> read) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            assertEquals(expectedSize, read.get().size());
+        }
+        long[] runs = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            assertEquals(expectedSize, read.get().size());
+            runs[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(runs);
+        return runs[MEASURED_RUNS / 2];
+    }
+
+    private List<ExperienceResponse> findAllWithEntities() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery(ExperienceQueryServiceTest.FETCH_JOIN_QUERY, Experience.class)
+                .getResultStream()
+                .map(experience -> experienceMapper.toResponse(experience, technologyCatalog))
+                .toList());
+    }
+
+    private List<Technology> technologies() {
+        TechnologyType type = new TechnologyType();
+        type.setName("Benchmark type");
+        technologyTypeRepository.save(type);
+        List<Technology> technologies = new ArrayList<>(TECHNOLOGIES);
+        for (int i = 0; i < TECHNOLOGIES; i++) {
+            Technology technology = new Technology();
+            technology.setName("Benchmark technology " + i);
+            technology.setType(type);
+            technology.setVersion(1L);
+            technologies.add(technologyRepository.save(technology));
+        }
+        technologyCatalog.reload();
+        return technologies;
+    }
+
+    private void insert(List<Technology> technologies, int offset, int count) {
+        for (int chunkStart = 0; chunkStart < count; chunkStart += INSERT_CHUNK) {
+            int first = offset + chunkStart;
+            int last = offset + Math.min(count, chunkStart + INSERT_CHUNK);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = first; i < last; i++) {
+                    Experience experience = new Experience();
+                    experience.setTitle("Benchmark experience " + i);
+                    experience.setCompanyName("Benchmark company " + i % 100);
+                    experience.setProjectName("Benchmark project " + i);
+                    experience.setDescription("Descrição da experiência de benchmark " + i);
+                    experience.setStartDate(LocalDate.of(2000, 1, 1).plusDays(i % 9_000));
+                    experience.setCurrent(i % 10 == 0);
+                    experience.setResponsibilities(new HashSet<>(Set.of("Design", "Review " + i % 7)));
+                    Set<Technology> linked = new HashSet<>();
+                    for (int t = 0; t < TECHNOLOGIES_PER_EXPERIENCE; t++) {
+                        linked.add(entityManager.getReference(Technology.class,
+                                technologies.get((i + t * 7) % TECHNOLOGIES).getId()));
+                    }
+                    experience.setTechnologies(linked);
+                    entityManager.persist(experience);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import com.jonathanssm.portfoliobackend.dto.CursorPage;
+import com.jonathanssm.portfoliobackend.dto.ExperienceResponse;
+import com.jonathanssm.portfoliobackend.model.Experience;
+import com.jonathanssm.portfoliobackend.model.Technology;
+import com.jonathanssm.portfoliobackend.model.TechnologyType;
+import com.jonathanssm.portfoliobackend.repository.ExperienceRepository;
+import com.jonathanssm.portfoliobackend.repository.TechnologyRepository;
+import com.jonathanssm.portfoliobackend.repository.TechnologyTypeRepository;
+import com.jonathanssm.portfoliobackend.util.CursorCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Busca no H2 (fallback LIKE): pesos título 4, empresa/projeto 2, tecnologias 2, texto 1
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, controlledShutdown = true)
+class ExperienceSearchServiceTest {
+
+    private static final int TEXT_ONLY_MATCHES = 5;
+
+    @Autowired
+    private ExperienceSearchService experienceSearchService;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @Autowired
+    private TechnologyTypeRepository technologyTypeRepository;
+
+    @Autowired
+    private TechnologyCatalog technologyCatalog;
+
+    private String term;
+    private List<Long> expectedOrder;
+
+    @BeforeEach
+    void setUp() {
+        // Termo único por teste: o banco é compartilhado com os demais testes do contexto
+        term = "quasar" + System.nanoTime();
+
+        TechnologyType type = new TechnologyType();
+        type.setName("Search type " + term);
+        technologyTypeRepository.save(type);
+        Technology technology = new Technology();
+        technology.setName("Lib " + term.toUpperCase());
+        technology.setType(type);
+        technology.setVersion(1L);
+        technologyRepository.save(technology);
+        technologyCatalog.reload();
+
+        Long titleOnly = experience(e -> e.setTitle("Title " + term));
+        Long company = experience(e -> e.setCompanyName("Company " + term));
+        Long technologyMatch = experience(e -> e.setTechnologies(new HashSet<>(Set.of(technology))));
+        Long titleAndDescription = experience(e -> {
+            e.setTitle("Senior " + term + " engineer");
+            e.setDescription("Worked with " + term);
+        });
+        List<Long> textOnly = new ArrayList<>();
+        for (int i = 0; i < TEXT_ONLY_MATCHES; i++) {
+            int index = i;
+            textOnly.add(experience(e -> {
+                if (index % 2 == 0) {
+                    e.setDescription("Descrição " + term);
+                } else {
+                    e.setResponsibilities(new HashSet<>(Set.of("Manter " + term)));
+                }
+            }));
+        }
+        experience(e -> e.setDescription("Nothing relevant"));
+
+        // score DESC, id DESC
+        expectedOrder = new ArrayList<>(List.of(titleAndDescription, titleOnly, technologyMatch, company));
+        expectedOrder.addAll(textOnly.reversed());
+    }
+
+    @Test
+    void ranksByWeightedFieldsThenId() {
+        CursorPage<ExperienceResponse> page = experienceSearchService.search("  " + term.toUpperCase() + " ", null, 50);
+
+        assertEquals(expectedOrder, ids(page));
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void pagesAcrossEqualScoresWithoutGapsOrDuplicates() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            // Tamanho 2: páginas terminam no meio do grupo de score 2 e do de score 1
+            CursorPage<ExperienceResponse> page = experienceSearchService.search(term, cursor, 2);
+            assertTrue(page.content().size() <= 2);
+            seen.addAll(ids(page));
+            cursor = page.nextCursor();
+            assertEquals(page.hasNext(), cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(expectedOrder, seen);
+        assertEquals((expectedOrder.size() + 1) / 2, pages);
+    }
+
+    @Test
+    void likeWildcardsInQueryAreLiteral() {
+        assertTrue(experienceSearchService.search(term + "%", null, 10).content().isEmpty());
+        assertTrue(experienceSearchService.search(term.substring(0, 3) + "_" + term.substring(4), null, 10).content().isEmpty());
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> experienceSearchService.search(term, "not-a-cursor", 10));
+        String nonNumeric = CursorCodec.encode("high", 10);
+        assertThrows(IllegalArgumentException.class, () -> experienceSearchService.search(term, nonNumeric, 10));
+    }
+
+    private static List<Long> ids(CursorPage<ExperienceResponse> page) {
+        return page.content().stream().map(ExperienceResponse::id).toList();
+    }
+
+    private Long experience(Consumer<Experience> customizer) {
+        Experience experience = new Experience();
+        experience.setTitle("Search experience");
+        experience.setCompanyName("Search company");
+        experience.setStartDate(LocalDate.of(2020, 1, 1));
+        customizer.accept(experience);
+        return experienceRepository.save(experience).getId();
+    }
+}
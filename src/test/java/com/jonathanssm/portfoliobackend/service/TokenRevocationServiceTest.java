@@ -0,0 +1,95 @@
+package com.jonathanssm.portfoliobackend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenRevocationServiceTest {
+
+    private static final long MINUTE = 60_000L;
+    // Início de um bucket de expiração (minuto cheio)
+    private static final long T0 = 28_333_334L * MINUTE;
+    // Acima da capacidade mínima do filtro de Bloom: força a reconstrução com mais capacidade
+    private static final int MANY_TOKENS = 150_000;
+
+    private final TokenRevocationService service = new TokenRevocationService();
+
+    @Test
+    void tokenStaysRevokedUntilItsOwnExpiry() {
+        service.revoke(1L, Instant.ofEpochMilli(T0 + 5 * MINUTE), T0);
+
+        assertTrue(service.isRevoked(1L, T0));
+        assertTrue(service.isRevoked(1L, T0 + 5 * MINUTE - 1));
+        assertFalse(service.isRevoked(1L, T0 + 5 * MINUTE));
+        assertFalse(service.isRevoked(2L, T0));
+    }
+
+    @Test
+    void ignoresExpiredOrMissingExpiry() {
+        service.revoke(1L, Instant.ofEpochMilli(T0), T0);
+        service.revoke(2L, Instant.ofEpochMilli(T0 - 1), T0);
+        service.revoke(3L, null, T0);
+
+        assertEquals(0, service.getRevokedTokenCount());
+        assertEquals(0, service.getRevocationCount());
+        assertFalse(service.isRevoked(1L, T0 - 1));
+    }
+
+    @Test
+    void repeatedRevocationIsIdempotent() {
+        Instant expiresAt = Instant.ofEpochMilli(T0 + MINUTE);
+        service.revoke(1L, expiresAt, T0);
+        // Mesma revogação recebida de outra réplica via Kafka
+        service.revoke(1L, expiresAt, T0 + 1);
+
+        assertEquals(1, service.getRevokedTokenCount());
+        assertEquals(1, service.getRevocationCount());
+    }
+
+    @Test
+    void evictsOnlyBucketsThatAlreadyPassed() {
+        service.revoke(1L, Instant.ofEpochMilli(T0 + 10_000), T0);
+        service.revoke(2L, Instant.ofEpochMilli(T0 + 30_000), T0);
+        service.revoke(3L, Instant.ofEpochMilli(T0 + 5 * MINUTE), T0);
+
+        // Ainda no minuto de expiração: o bucket não é varrido, mas o token já não conta
+        service.evictExpired(T0 + 20_000);
+        assertEquals(3, service.getRevokedTokenCount());
+        assertEquals(0, service.getEvictionCount());
+        assertFalse(service.isRevoked(1L, T0 + 20_000));
+        assertTrue(service.isRevoked(2L, T0 + 20_000));
+
+        service.evictExpired(T0 + MINUTE);
+        assertEquals(1, service.getRevokedTokenCount());
+        assertEquals(2, service.getEvictionCount());
+        // Filtro reconstruído só com as entradas vivas
+        assertTrue(service.isRevoked(3L, T0 + MINUTE));
+        assertFalse(service.isRevoked(1L, T0 - 1));
+
+        service.evictExpired(T0 + 6 * MINUTE);
+        assertEquals(0, service.getRevokedTokenCount());
+        assertEquals(3, service.getEvictionCount());
+        assertFalse(service.isRevoked(3L, T0 + MINUTE));
+    }
+
+    @Test
+    void keepsAllTokensRevokedWhenBloomFilterGrows() {
+        Instant expiresAt = Instant.ofEpochMilli(T0 + MINUTE);
+        for (long tokenId = 1; tokenId <= MANY_TOKENS; tokenId++) {
+            service.revoke(tokenId, expiresAt, T0);
+        }
+
+        assertEquals(MANY_TOKENS, service.getRevokedTokenCount());
+        for (long tokenId = 1; tokenId <= MANY_TOKENS; tokenId++) {
+            assertTrue(service.isRevoked(tokenId, T0));
+        }
+
+        service.evictExpired(T0 + 2 * MINUTE);
+        assertEquals(0, service.getRevokedTokenCount());
+        assertEquals(MANY_TOKENS, service.getEvictionCount());
+    }
+}
@@ -0,0 +1,170 @@
+package com.jonathanssm.portfoliobackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressedBitmapTest {
+
+    private static final int ARRAY_CONTAINER_MAX = 4096;
+    private static final long BITMAP_CONTAINER_BYTES = 8192;
+
+    @Test
+    void convertsArrayContainerToBitmapAfter4096Values() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        // Valores espaçados: o container vira bitmap exatamente no valor 4097
+        for (int i = 0; i <= ARRAY_CONTAINER_MAX; i++) {
+            bitmap.add(i * 3);
+            expected.add(i * 3);
+            if (i == ARRAY_CONTAINER_MAX - 1) {
+                assertSameValues(expected, bitmap);
+            }
+        }
+
+        assertSameValues(expected, bitmap);
+        assertTrue(bitmap.contains(ARRAY_CONTAINER_MAX * 3));
+        assertFalse(bitmap.contains(1));
+        assertEquals(BITMAP_CONTAINER_BYTES, bitmap.copy().getSizeInBytes() - Character.BYTES);
+    }
+
+    @Test
+    void removeShrinksBitmapContainerBackToArray() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 5_000; i++) {
+            bitmap.add(i);
+            expected.add(i);
+        }
+        for (int i = 10; i < 5_000; i++) {
+            bitmap.remove(i);
+            expected.remove(i);
+        }
+
+        assertSameValues(expected, bitmap);
+        // A cópia de um array container tem o tamanho exato: 10 valores de 2 bytes + a chave
+        assertEquals(10L * Character.BYTES + Character.BYTES, bitmap.copy().getSizeInBytes());
+
+        // Volta a crescer como array e converte de novo ao passar do limite
+        for (int i = 10; i < 5_000; i++) {
+            bitmap.add(i);
+            expected.add(i);
+        }
+        assertSameValues(expected, bitmap);
+    }
+
+    @Test
+    void removingLastValueDropsContainer() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitmap.add(1);
+        bitmap.add(1 << 16);
+        bitmap.remove(1);
+        bitmap.remove(1 << 16);
+        bitmap.remove(42);
+
+        assertTrue(bitmap.isEmpty());
+        assertEquals(0, bitmap.toArray().length);
+    }
+
+    @Test
+    void andAndOrAcrossContainerTypes() {
+        Random random = new Random(42);
+        // Por grupo de 16 bits: array x array, array x bitmap, bitmap x bitmap e grupos só de um lado
+        CompressedBitmap left = new CompressedBitmap();
+        CompressedBitmap right = new CompressedBitmap();
+        TreeSet<Integer> leftValues = new TreeSet<>();
+        TreeSet<Integer> rightValues = new TreeSet<>();
+        fill(left, leftValues, 0, 100, random);
+        fill(right, rightValues, 0, 100, random);
+        fill(left, leftValues, 1, 200, random);
+        fill(right, rightValues, 1, 10_000, random);
+        fill(left, leftValues, 2, 20_000, random);
+        fill(right, rightValues, 2, 30_000, random);
+        fill(left, leftValues, 3, 50, random);
+        fill(right, rightValues, 4, 6_000, random);
+
+        TreeSet<Integer> intersection = new TreeSet<>(leftValues);
+        intersection.retainAll(rightValues);
+        TreeSet<Integer> union = new TreeSet<>(leftValues);
+        union.addAll(rightValues);
+
+        assertSameValues(intersection, left.and(right));
+        assertSameValues(intersection, right.and(left));
+        assertSameValues(union, left.or(right));
+        assertSameValues(union, right.or(left));
+        // Operandos intactos
+        assertSameValues(leftValues, left);
+        assertSameValues(rightValues, right);
+    }
+
+    @Test
+    void intersectionOfBitmapContainersShrinksToArrayWhenSparse() {
+        CompressedBitmap even = new CompressedBitmap();
+        CompressedBitmap dense = new CompressedBitmap();
+        for (int i = 0; i < 20_000; i++) {
+            even.add(i * 2);
+            // 0..7999 e 40000..51999: só a primeira faixa cruza com os pares até 39998
+            dense.add(i < 8_000 ? i : 32_000 + i);
+        }
+
+        CompressedBitmap result = even.and(dense);
+
+        assertEquals(4_000, result.cardinality());
+        assertEquals(4_000L * Character.BYTES + Character.BYTES, result.copy().getSizeInBytes());
+        assertTrue(result.contains(7_998));
+        assertFalse(result.contains(7_999));
+        assertFalse(result.contains(40_000));
+
+        CompressedBitmap small = new CompressedBitmap();
+        small.add(4);
+        small.add(5);
+        assertArrayEquals(new int[]{4}, even.and(small).toArray());
+    }
+
+    @Test
+    void orOfArrayContainersOverLimitBecomesBitmap() {
+        CompressedBitmap odd = new CompressedBitmap();
+        CompressedBitmap even = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 3_000; i++) {
+            odd.add(i * 2 + 1);
+            even.add(i * 2);
+            expected.add(i * 2 + 1);
+            expected.add(i * 2);
+        }
+
+        assertSameValues(expected, odd.or(even));
+    }
+
+    @Test
+    void rejectsNegativeValues() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.contains(Integer.MIN_VALUE));
+    }
+
+    private static void fill(CompressedBitmap bitmap, TreeSet<Integer> values, int high, int count, Random random) {
+        int added = 0;
+        while (added < count) {
+            int value = high << 16 | random.nextInt(1 << 16);
+            bitmap.add(value);
+            if (values.add(value)) {
+                added++;
+            }
+        }
+    }
+
+    private static void assertSameValues(TreeSet<Integer> expected, CompressedBitmap bitmap) {
+        assertEquals(expected.size(), bitmap.cardinality());
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), bitmap.toArray());
+        expected.forEach(value -> assertTrue(bitmap.contains(value), "missing " + value));
+    }
+}
@@ -0,0 +1,61 @@
+package com.jonathanssm.portfoliobackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongBloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int PROBES = 100_000;
+
+    @Test
+    void hasNoFalseNegatives() {
+        LongBloomFilter filter = new LongBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        for (long key = 0; key < INSERTIONS; key++) {
+            filter.put(key * 7919);
+        }
+
+        for (long key = 0; key < INSERTIONS; key++) {
+            assertTrue(filter.mightContain(key * 7919));
+        }
+        assertEquals(INSERTIONS, filter.getExpectedInsertions());
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        LongBloomFilter filter = new LongBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        for (long key = 0; key < INSERTIONS; key++) {
+            filter.put(key);
+        }
+
+        int falsePositives = 0;
+        for (long key = INSERTIONS; key < INSERTIONS + PROBES; key++) {
+            if (filter.mightContain(key)) {
+                falsePositives++;
+            }
+        }
+        // Folga de 2x sobre a taxa alvo com o filtro na capacidade esperada
+        assertTrue(falsePositives < PROBES * FALSE_POSITIVE_RATE * 2, "False positives: " + falsePositives);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        LongBloomFilter filter = new LongBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+
+        assertFalse(filter.mightContain(0L));
+        assertFalse(filter.mightContain(Long.MIN_VALUE));
+        assertFalse(filter.mightContain(Long.MAX_VALUE));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new LongBloomFilter(0, FALSE_POSITIVE_RATE));
+        assertThrows(IllegalArgumentException.class, () -> new LongBloomFilter(INSERTIONS, 0));
+        assertThrows(IllegalArgumentException.class, () -> new LongBloomFilter(INSERTIONS, 1));
+    }
+}
@@ -0,0 +1,127 @@
+package com.jonathanssm.portfoliobackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SlidingWindowCounterTableTest {
+
+    private static final long WINDOW = 1_000;
+    // Um segmento de 16 slots = uma única vizinhança de sondagem: a 17ª chave força uma substituição
+    private static final int SLOTS = 16;
+    private static final long T0 = 10 * WINDOW;
+
+    private static SlidingWindowCounterTable fullTable() {
+        return new SlidingWindowCounterTable(SLOTS, 1, WINDOW);
+    }
+
+    @Test
+    void previousWindowDecaysLinearlyAcrossRollover() {
+        SlidingWindowCounterTable table = fullTable();
+        for (int i = 0; i < 4; i++) {
+            table.increment(1, T0 + 100);
+        }
+
+        assertEquals(4, table.estimate(1, T0 + 999));
+        // Início da janela seguinte: a anterior ainda conta inteira e decai com o tempo
+        assertEquals(4, table.estimate(1, T0 + WINDOW));
+        assertEquals(2, table.estimate(1, T0 + WINDOW + 500));
+        assertEquals(0, table.estimate(1, T0 + WINDOW + 999));
+        // Incremento na nova janela: 1 + 4 * 750/1000
+        assertEquals(4, table.increment(1, T0 + WINDOW + 250));
+        assertEquals(1, table.estimate(1, T0 + 2 * WINDOW));
+        // Duas janelas sem atividade: nada resta
+        assertEquals(0, table.estimate(1, T0 + 3 * WINDOW));
+        assertEquals(1, table.increment(1, T0 + 3 * WINDOW));
+        assertEquals(0, table.estimate(2, T0));
+    }
+
+    @Test
+    void countsActiveKeysOfCurrentAndPreviousWindow() {
+        SlidingWindowCounterTable table = fullTable();
+        table.increment(1, T0);
+        table.increment(2, T0 + WINDOW);
+
+        assertEquals(2, table.countActiveKeys(T0 + WINDOW));
+        assertEquals(1, table.countActiveKeys(T0 + 2 * WINDOW));
+        assertEquals(0, table.countActiveKeys(T0 + 3 * WINDOW));
+    }
+
+    @Test
+    void evictsLowestCountInsteadOfHotKeys() {
+        SlidingWindowCounterTable table = fullTable();
+        // Chave quente registrada primeiro (a mais antiga da vizinhança)
+        for (int i = 0; i < 10; i++) {
+            table.increment(1, T0);
+        }
+        for (long key = 2; key <= SLOTS; key++) {
+            table.increment(key, T0 + 1);
+            table.increment(key, T0 + 1);
+        }
+        table.increment(SLOTS, T0 + 2);
+
+        // Enxurrada de chaves novas: só slots de contagem mínima são substituídos
+        for (long key = 1_000; key < 1_100; key++) {
+            table.increment(key, T0 + 3);
+        }
+
+        assertEquals(10, table.estimate(1, T0 + 3));
+        assertEquals(3, table.estimate(SLOTS, T0 + 3));
+        assertEquals(100, table.getEvictionCount());
+        assertEquals(SLOTS, table.countActiveKeys(T0 + 3));
+    }
+
+    @Test
+    void breaksCountTiesByEvictingOldestWindow() {
+        SlidingWindowCounterTable table = fullTable();
+        table.increment(1, T0);
+        table.increment(1, T0);
+        long now = T0 + WINDOW + 500;
+        // Chave 1: 2 * 500/1000 = 1, mesma estimativa da chave 2, porém de janela mais antiga
+        table.increment(2, now);
+        for (long key = 3; key <= SLOTS; key++) {
+            for (int i = 0; i < 3; i++) {
+                table.increment(key, now);
+            }
+        }
+
+        table.increment(100, now);
+
+        assertEquals(0, table.estimate(1, now));
+        assertEquals(1, table.estimate(2, now));
+        assertEquals(1, table.estimate(100, now));
+        assertEquals(1, table.getEvictionCount());
+    }
+
+    @Test
+    void reusesExpiredAndResetSlotsWithoutEviction() {
+        SlidingWindowCounterTable table = fullTable();
+        for (long key = 1; key <= SLOTS; key++) {
+            table.increment(key, T0);
+            table.increment(key, T0);
+        }
+
+        table.reset(5);
+        table.increment(100, T0);
+        assertEquals(0, table.getEvictionCount());
+        assertEquals(0, table.estimate(5, T0));
+        assertEquals(2, table.estimate(6, T0));
+
+        // Duas janelas depois todos os slots expiraram
+        long later = T0 + 2 * WINDOW;
+        for (long key = 200; key < 200 + SLOTS; key++) {
+            table.increment(key, later);
+        }
+        assertEquals(0, table.getEvictionCount());
+        assertEquals(0, table.estimate(1, later));
+        assertEquals(1, table.estimate(200, later));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounterTable(0, 1, WINDOW));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounterTable(SLOTS, 0, WINDOW));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounterTable(SLOTS, 1, 0));
+    }
+}
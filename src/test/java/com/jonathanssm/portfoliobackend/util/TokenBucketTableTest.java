@@ -0,0 +1,100 @@
+package com.jonathanssm.portfoliobackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTableTest {
+
+    private static final int BURST = 3;
+    // 10 tokens por segundo: um token a cada 100 ms
+    private static final double REFILL_PER_SECOND = 10;
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long T0 = TimeUnit.SECONDS.toNanos(1);
+    // Capacidade 8 = uma única vizinhança de sondagem
+    private static final int SLOTS = 8;
+
+    @Test
+    void grantsBurstThenRefillsOneTokenPerEmissionInterval() {
+        TokenBucketTable table = new TokenBucketTable(SLOTS, BURST, REFILL_PER_SECOND);
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(0, table.tryAcquire(1, T0));
+        }
+
+        assertEquals(INTERVAL, table.tryAcquire(1, T0));
+        assertEquals(1, table.tryAcquire(1, T0 + INTERVAL - 1));
+        assertEquals(0, table.tryAcquire(1, T0 + INTERVAL));
+        assertEquals(INTERVAL, table.tryAcquire(1, T0 + INTERVAL));
+
+        // Duas emissões depois: dois tokens repostos
+        assertEquals(0, table.tryAcquire(1, T0 + 3 * INTERVAL));
+        assertEquals(0, table.tryAcquire(1, T0 + 3 * INTERVAL));
+        assertEquals(INTERVAL, table.tryAcquire(1, T0 + 3 * INTERVAL));
+    }
+
+    @Test
+    void refillIsCappedAtBurst() {
+        TokenBucketTable table = new TokenBucketTable(SLOTS, BURST, REFILL_PER_SECOND);
+        table.tryAcquire(1, T0);
+
+        long idle = T0 + TimeUnit.SECONDS.toNanos(60);
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(0, table.tryAcquire(1, idle));
+        }
+        assertEquals(INTERVAL, table.tryAcquire(1, idle));
+    }
+
+    @Test
+    void bucketsAreIndependentPerKey() {
+        TokenBucketTable table = new TokenBucketTable(SLOTS, 1, REFILL_PER_SECOND);
+
+        assertEquals(0, table.tryAcquire(1, T0));
+        assertEquals(INTERVAL, table.tryAcquire(1, T0));
+        assertEquals(0, table.tryAcquire(2, T0));
+    }
+
+    @Test
+    void newKeyTakesOverIdlestBucketWhenNeighbourhoodIsFull() {
+        TokenBucketTable table = new TokenBucketTable(SLOTS, 1, REFILL_PER_SECOND);
+        long later = T0 + INTERVAL / 2;
+        table.tryAcquire(1, T0);
+        for (long key = 2; key <= SLOTS; key++) {
+            table.tryAcquire(key, later);
+        }
+
+        // Todos os buckets vazios: o da chave 1 (mais perto de encher) é reaproveitado, já cheio
+        long now = later + 1;
+        assertEquals(0, table.tryAcquire(100, now));
+        for (long key = 2; key <= SLOTS; key++) {
+            assertTrue(table.tryAcquire(key, now) > 0);
+        }
+    }
+
+    @Test
+    void refilledBucketIsReusedWithoutTouchingDrainedOnes() {
+        TokenBucketTable table = new TokenBucketTable(SLOTS, 1, REFILL_PER_SECOND);
+        table.tryAcquire(1, T0);
+        for (long key = 2; key <= SLOTS; key++) {
+            table.tryAcquire(key, T0 + INTERVAL / 2);
+        }
+
+        // Em T0 + 100 ms só o bucket da chave 1 voltou a encher: equivale a um slot livre
+        long now = T0 + INTERVAL;
+        assertEquals(0, table.tryAcquire(100, now));
+        assertEquals(INTERVAL, table.tryAcquire(100, now));
+        for (long key = 2; key <= SLOTS; key++) {
+            assertEquals(INTERVAL / 2, table.tryAcquire(key, now));
+        }
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketTable(0, BURST, REFILL_PER_SECOND));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketTable(SLOTS, 0, REFILL_PER_SECOND));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketTable(SLOTS, BURST, 0));
+    }
+}